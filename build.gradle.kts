@@ -15,6 +15,7 @@ plugins {
   idea
   id("org.ec4j.editorconfig") version "0.1.0"
   id("com.diffplug.spotless") version "8.9.0"
+  id("me.champeau.jmh") version "0.7.3"
 }
 
 buildscript {
@@ -46,6 +47,8 @@ repositories {
 
 dependencies {
   implementation("org.testcontainers:testcontainers:2.0.5")
+  compileOnly(platform("org.junit:junit-bom:6.1.3"))
+  compileOnly("org.junit.jupiter:junit-jupiter-api")
   testImplementation(platform("org.junit:junit-bom:6.1.3"))
   testImplementation("org.junit.jupiter:junit-jupiter")
   testImplementation("org.junit.jupiter:junit-jupiter-params")
@@ -53,6 +56,7 @@ dependencies {
   testImplementation("org.opensearch.client:opensearch-rest-client:3.8.0")
   testImplementation("org.hamcrest:hamcrest:3.0")
   testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+  jmh("ch.qos.logback:logback-classic:1.6.3")
 }
 
 group = "org.opensearch"
@@ -104,6 +108,18 @@ tasks.test {
   }
 }
 
+// The benchmarks (see src/jmh) are run with "./gradlew jmh", the OpenSearch versions could be overridden
+// with "-Pjmh.versions=2.19.1,3.1.0" and the benchmarks filtered with "-Pjmh.includes=OpenSearchCluster"
+jmh {
+  jmhVersion.set("1.37")
+  resultFormat.set("JSON")
+  resultsFile.set(layout.buildDirectory.file("reports/jmh/results-" + version + ".json"))
+  providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+  providers.gradleProperty("jmh.versions").orNull?.let {
+    benchmarkParameters.put("version", objects.listProperty<String>().value(it.split(",")))
+  }
+}
+
 spotless {
   java {
     trimTrailingWhitespace()
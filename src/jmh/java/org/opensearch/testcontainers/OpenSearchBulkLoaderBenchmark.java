@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bulk seeding throughput (documents per second) of {@link OpenSearchBulkLoader}: every invocation
+ * loads the same generated documents into the new index, which is deleted afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class OpenSearchBulkLoaderBenchmark {
+    private static final int DOCUMENTS = 100_000;
+    private static final String INDEX = "benchmark";
+
+    @Param({"1.3.20", "2.19.1", "3.1.0"})
+    public String version;
+
+    private OpenSearchContainer<?> container;
+    private Path documents;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        documents = Files.createTempFile("opensearch-benchmark", ".ndjson");
+        try (BufferedWriter writer = Files.newBufferedWriter(documents, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < DOCUMENTS; ++i) {
+                writer.write("{\"id\":" + i + ",\"title\":\"Book " + i
+                        + "\",\"description\":\"The description of the book number " + i + "\",\"pages\":" + (i % 1000)
+                        + "}\n");
+            }
+        }
+
+        container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion(version));
+        container.start();
+    }
+
+    @Setup(Level.Invocation)
+    public void createIndex() {
+        container.getHttpClient().put("/" + INDEX, "{\"settings\":{\"number_of_replicas\":0}}").expectSuccess();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENTS)
+    public OpenSearchBulkLoadResult load() {
+        return container.bulkLoader()
+                .fromFile(documents)
+                .intoIndex(INDEX)
+                .withLoadSettings(INDEX)
+                .load();
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteIndex() {
+        container.getHttpClient().delete("/" + INDEX).expectSuccess();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        container.stop();
+        Files.deleteIfExists(documents);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time of the 3-node cluster formation: from the start of the first node till all nodes are ready
+ * and have joined the cluster.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class OpenSearchClusterBenchmark {
+    @Param({"2.19.1", "3.1.0"})
+    public String version;
+
+    private OpenSearchCluster cluster;
+
+    @Benchmark
+    public OpenSearchCluster formation() {
+        cluster = new OpenSearchCluster(OpenSearchDockerImage.ofVersion(version), 3);
+        cluster.start();
+        return cluster;
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() {
+        // The shutdown (including the network removal) is not a part of the measurement
+        if (cluster != null) {
+            cluster.stop();
+            cluster = null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time of the single node container from the start to ready (the wait strategy is satisfied), for
+ * the insecure, secure (demo configuration) and fast secure modes. The image is pulled by the warmup iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OpenSearchContainerBenchmark {
+    @Param({"1.3.20", "2.19.1", "3.1.0"})
+    public String version;
+
+    @Param({"disabled", "demo", "fast"})
+    public String security;
+
+    private OpenSearchContainer<?> container;
+
+    @Benchmark
+    public OpenSearchContainer<?> startToReady() {
+        container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion(version));
+        if ("demo".equals(security)) {
+            container.withSecurityEnabled();
+        } else if ("fast".equals(security)) {
+            container.withFastSecurityEnabled();
+        }
+
+        container.start();
+        return container;
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() {
+        // The shutdown is not a part of the measurement
+        if (container != null) {
+            container.stop();
+            container = null;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimalistic JSON parser and writer (so no JSON library is needed): the objects are parsed into
+ * {@link Map}, the arrays into {@link List}, the numbers into {@link Long} or {@link Double}.
+ */
+final class Json {
+    private final String json;
+    private int position;
+
+    private Json(final String json) {
+        this.json = json;
+    }
+
+    /**
+     * Parse the JSON document
+     * @param json JSON document
+     * @return parsed value: {@link Map}, {@link List}, {@link String}, {@link Long}, {@link Double},
+     *      {@link Boolean} or {@code null}
+     * @throws IllegalArgumentException if the document is malformed
+     */
+    static Object parse(final String json) {
+        final Json parser = new Json(json);
+        final Object value = parser.value();
+        parser.whitespaces();
+        if (parser.position != json.length()) {
+            throw parser.error("end of the document");
+        }
+        return value;
+    }
+
+    /**
+     * Parse the JSON object
+     * @param json JSON object
+     * @return parsed object
+     * @throws IllegalArgumentException if the document is malformed or is not an object
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> parseObject(final String json) {
+        final Object value = parse(json);
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("The JSON object is expected but got: " + json);
+        }
+        return (Map<String, Object>) value;
+    }
+
+    /**
+     * Quote the string as JSON string literal
+     * @param value the string
+     * @return JSON string literal
+     */
+    static String quote(final String value) {
+        final StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); ++i) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private Object value() {
+        whitespaces();
+        if (position >= json.length()) {
+            throw error("value");
+        }
+
+        final char c = json.charAt(position);
+        switch (c) {
+            case '{':
+                return object();
+            case '[':
+                return array();
+            case '"':
+                return string();
+            case 't':
+                return literal("true", Boolean.TRUE);
+            case 'f':
+                return literal("false", Boolean.FALSE);
+            case 'n':
+                return literal("null", null);
+            default:
+                return number();
+        }
+    }
+
+    private Map<String, Object> object() {
+        final Map<String, Object> object = new LinkedHashMap<>();
+        ++position; /* { */
+        whitespaces();
+        if (peek('}')) {
+            ++position;
+            return object;
+        }
+
+        while (true) {
+            whitespaces();
+            if (!peek('"')) {
+                throw error("object key");
+            }
+            final String key = string();
+            whitespaces();
+            expect(':');
+            object.put(key, value());
+            whitespaces();
+            if (peek(',')) {
+                ++position;
+            } else {
+                expect('}');
+                return object;
+            }
+        }
+    }
+
+    private List<Object> array() {
+        final List<Object> array = new ArrayList<>();
+        ++position; /* [ */
+        whitespaces();
+        if (peek(']')) {
+            ++position;
+            return array;
+        }
+
+        while (true) {
+            array.add(value());
+            whitespaces();
+            if (peek(',')) {
+                ++position;
+            } else {
+                expect(']');
+                return array;
+            }
+        }
+    }
+
+    private String string() {
+        final StringBuilder sb = new StringBuilder();
+        ++position; /* " */
+        while (position < json.length()) {
+            final char c = json.charAt(position++);
+            if (c == '"') {
+                return sb.toString();
+            } else if (c != '\\') {
+                sb.append(c);
+            } else if (position < json.length()) {
+                final char escaped = json.charAt(position++);
+                switch (escaped) {
+                    case 'b':
+                        sb.append('\b');
+                        break;
+                    case 'f':
+                        sb.append('\f');
+                        break;
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'u':
+                        if (position + 4 > json.length()) {
+                            throw error("unicode escape");
+                        }
+                        sb.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                        position += 4;
+                        break;
+                    default:
+                        sb.append(escaped);
+                }
+            }
+        }
+        throw error("end of the string");
+    }
+
+    private Object number() {
+        final int start = position;
+        boolean decimal = false;
+        while (position < json.length()) {
+            final char c = json.charAt(position);
+            if (c == '.' || c == 'e' || c == 'E') {
+                decimal = true;
+            } else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+                break;
+            }
+            ++position;
+        }
+
+        final String number = json.substring(start, position);
+        try {
+            return decimal ? (Object) Double.parseDouble(number) : (Object) Long.parseLong(number);
+        } catch (final NumberFormatException ex) {
+            position = start;
+            throw error("value");
+        }
+    }
+
+    private Object literal(final String literal, final Object value) {
+        if (!json.startsWith(literal, position)) {
+            throw error(literal);
+        }
+        position += literal.length();
+        return value;
+    }
+
+    private void whitespaces() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            ++position;
+        }
+    }
+
+    private boolean peek(char c) {
+        return position < json.length() && json.charAt(position) == c;
+    }
+
+    private void expect(char c) {
+        if (!peek(c)) {
+            throw error("'" + c + "'");
+        }
+        ++position;
+    }
+
+    private IllegalArgumentException error(final String expected) {
+        return new IllegalArgumentException("Malformed JSON, expected " + expected + " at position " + position);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The outcome of the bulk load (see please {@link OpenSearchBulkLoader}): the number of documents loaded
+ * and failed, the number of retries and the throughput.
+ */
+public final class OpenSearchBulkLoadResult {
+    private final long documents;
+    private final long failedDocuments;
+    private final long batches;
+    private final long retries;
+    private final Duration duration;
+    private final List<String> failures;
+
+    OpenSearchBulkLoadResult(
+            long documents,
+            long failedDocuments,
+            long batches,
+            long retries,
+            final Duration duration,
+            final List<String> failures) {
+        this.documents = documents;
+        this.failedDocuments = failedDocuments;
+        this.batches = batches;
+        this.retries = retries;
+        this.duration = duration;
+        this.failures = List.copyOf(failures);
+    }
+
+    /**
+     * Return the number of documents loaded successfully
+     * @return the number of documents loaded successfully
+     */
+    public long getDocuments() {
+        return documents;
+    }
+
+    /**
+     * Return the number of documents failed to load (after all retries)
+     * @return the number of documents failed to load
+     */
+    public long getFailedDocuments() {
+        return failedDocuments;
+    }
+
+    /**
+     * Return the number of the bulk requests sent (not counting the retries)
+     * @return the number of the bulk requests sent
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Return the number of retries (of the rejected bulk requests or items)
+     * @return the number of retries
+     */
+    public long getRetries() {
+        return retries;
+    }
+
+    /**
+     * Return the duration of the load
+     * @return the duration of the load
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Return the throughput of the load
+     * @return the number of documents loaded per second
+     */
+    public double getDocumentsPerSecond() {
+        final long nanos = Math.max(duration.toNanos(), 1);
+        return documents * 1_000_000_000d / nanos;
+    }
+
+    /**
+     * Return the first failures (up to 10) reported for the documents failed to load
+     * @return the first failures
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "OpenSearchBulkLoadResult{documents=%d, failedDocuments=%d, batches=%d, retries=%d, duration=%s, "
+                        + "documentsPerSecond=%.1f}",
+                documents, failedDocuments, batches, retries, duration, getDocumentsPerSecond());
+    }
+}
@@ -0,0 +1,479 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The parallel bulk loader to seed the OpenSearch container with the documents from NDJSON (optionally
+ * gzip compressed) file or classpath resource. The source is read incrementally and split into the bulk
+ * requests of the given size in bytes, which are sent concurrently (the reading is paused while all the
+ * concurrent requests are in flight). The requests (or individual items) rejected by OpenSearch (HTTP
+ * 429) are retried with the exponential backoff.
+ *
+ *      final OpenSearchBulkLoadResult result = container.bulkLoader()
+ *          .fromClasspath("fixtures/books.ndjson.gz")
+ *          .intoIndex("books")
+ *          .withLoadSettings("books")
+ *          .load();
+ *
+ * The source is expected to be in the bulk API format (the action line, followed by the document line unless
+ * the action is "delete") or, if the index is specified with {@link #intoIndex(String)}, to contain the
+ * documents only (one per line).
+ */
+public final class OpenSearchBulkLoader {
+    private static final Duration BULK_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+    private static final int MAX_FAILURES = 10;
+
+    private final OpenSearchHttpClient client;
+    private InputStreamSupplier source;
+    private String index;
+    private long batchSize = OpenSearchResourceProfile.parseSize("5m");
+    private int concurrency = Math.max(2, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+    private int maxRetries = 5;
+    private String loadSettingsIndex;
+
+    OpenSearchBulkLoader(final OpenSearchHttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Load the documents from the NDJSON (optionally gzip compressed) file
+     * @param file NDJSON file
+     * @return this bulk loader instance
+     */
+    public OpenSearchBulkLoader fromFile(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("The file " + file + " does not exist");
+        }
+        this.source = () -> Files.newInputStream(file);
+        return this;
+    }
+
+    /**
+     * Load the documents from the NDJSON (optionally gzip compressed) classpath resource
+     * @param resource classpath resource name
+     * @return this bulk loader instance
+     */
+    public OpenSearchBulkLoader fromClasspath(final String resource) {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader() != null
+                ? Thread.currentThread().getContextClassLoader()
+                : OpenSearchBulkLoader.class.getClassLoader();
+        if (classLoader.getResource(resource) == null) {
+            throw new IllegalArgumentException("The classpath resource " + resource + " does not exist");
+        }
+        this.source = () -> classLoader.getResourceAsStream(resource);
+        return this;
+    }
+
+    /**
+     * Index every line of the source as the document into the given index (the source contains
+     * the documents only, without the bulk API action lines).
+     * @param index index name
+     * @return this bulk loader instance
+     */
+    public OpenSearchBulkLoader intoIndex(final String index) {
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * Set the size of the bulk requests (5m by default).
+     * @param batchSize size of the bulk requests in bytes, like 512k or 10m
+     * @return this bulk loader instance
+     */
+    public OpenSearchBulkLoader withBatchSize(final String batchSize) {
+        this.batchSize = OpenSearchResourceProfile.parseSize(batchSize);
+        return this;
+    }
+
+    /**
+     * Set the maximum number of the bulk requests in flight (the number of available processors, within
+     * [2, 8] range, by default).
+     * @param concurrency maximum number of the bulk requests in flight
+     * @return this bulk loader instance
+     */
+    public OpenSearchBulkLoader withConcurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("The concurrency should be positive but got " + concurrency);
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of retries of the rejected bulk requests or items (5 by default).
+     * @param maxRetries maximum number of retries
+     * @return this bulk loader instance
+     */
+    public OpenSearchBulkLoader withMaxRetries(int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("The maximum number of retries should not be negative");
+        }
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * Switch the index to the load friendly settings (refresh_interval: -1, number_of_replicas: 0) for the
+     * duration of the load and restore the original settings afterwards. The index is created if it does not
+     * exist yet (with the matching index templates applied).
+     * @param index index name
+     * @return this bulk loader instance
+     */
+    public OpenSearchBulkLoader withLoadSettings(final String index) {
+        this.loadSettingsIndex = index;
+        return this;
+    }
+
+    /**
+     * Load the documents, blocking until all bulk requests are completed. All indices loaded into are
+     * refreshed at the end, so the documents are searchable.
+     * @return the outcome of the load
+     * @throws OpenSearchResponseException if any bulk request has failed (other than rejected)
+     */
+    public OpenSearchBulkLoadResult load() {
+        if (source == null) {
+            throw new IllegalStateException("The source is not set, see fromFile() or fromClasspath()");
+        }
+
+        final String originalSettings = loadSettingsIndex == null ? null : applyLoadSettings();
+        final OpenSearchBulkLoadResult result;
+        try {
+            result = doLoad();
+            expectSuccess("Unable to refresh the indices", client.execute("POST", "/_refresh", null, BULK_TIMEOUT));
+        } catch (final RuntimeException | Error ex) {
+            // The load failure is the one to report, the failure to restore the settings is suppressed by it
+            if (loadSettingsIndex != null) {
+                try {
+                    restoreSettings(originalSettings);
+                } catch (final RuntimeException restoreEx) {
+                    ex.addSuppressed(restoreEx);
+                }
+            }
+            throw ex;
+        }
+
+        if (loadSettingsIndex != null) {
+            restoreSettings(originalSettings);
+        }
+        return result;
+    }
+
+    private OpenSearchBulkLoadResult doLoad() {
+        final Stats stats = new Stats();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final Semaphore inFlight = new Semaphore(concurrency);
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "opensearch-bulk-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final long started = System.nanoTime();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(), StandardCharsets.UTF_8))) {
+            List<Item> batch = new ArrayList<>();
+            long size = 0;
+
+            Item item;
+            while (failure.get() == null && (item = next(reader)) != null) {
+                batch.add(item);
+                size += item.size;
+                if (size >= batchSize) {
+                    submit(executor, inFlight, batch, stats, failure);
+                    batch = new ArrayList<>();
+                    size = 0;
+                }
+            }
+
+            if (!batch.isEmpty() && failure.get() == null) {
+                submit(executor, inFlight, batch, stats, failure);
+            }
+
+            // Wait for all in flight requests to complete
+            inFlight.acquire(concurrency);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to read the documents", ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the documents", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        return new OpenSearchBulkLoadResult(
+                stats.documents.get(),
+                stats.failedDocuments.get(),
+                stats.batches.get(),
+                stats.retries.get(),
+                Duration.ofNanos(System.nanoTime() - started),
+                stats.failures);
+    }
+
+    private void submit(
+            final ExecutorService executor,
+            final Semaphore inFlight,
+            final List<Item> batch,
+            final Stats stats,
+            final AtomicReference<RuntimeException> failure)
+            throws InterruptedException {
+        // The backpressure: the reading is paused until one of the in flight requests completes
+        inFlight.acquire();
+        stats.batches.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                send(batch, stats);
+            } catch (final RuntimeException ex) {
+                failure.compareAndSet(null, ex);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void send(final List<Item> batch, final Stats stats) {
+        List<Item> pending = batch;
+        long backoff = INITIAL_BACKOFF.toNanos();
+
+        for (int attempt = 0; ; ++attempt) {
+            final StringBuilder body = new StringBuilder();
+            for (final Item item : pending) {
+                body.append(item.action).append('\n');
+                if (item.document != null) {
+                    body.append(item.document).append('\n');
+                }
+            }
+
+            final OpenSearchHttpClient.Response response =
+                    client.execute("POST", "/_bulk", body.toString(), BULK_TIMEOUT);
+            final List<Item> rejected = new ArrayList<>();
+            if (response.getStatusCode() == 429) {
+                rejected.addAll(pending);
+            } else {
+                expectSuccess("The bulk request has failed", response);
+                collect(pending, response.getBody(), rejected, stats);
+            }
+
+            if (rejected.isEmpty()) {
+                return;
+            } else if (attempt >= maxRetries) {
+                stats.failed(rejected.size(), "Rejected after " + maxRetries + " retries: " + rejected.get(0).action);
+                return;
+            }
+
+            stats.retries.incrementAndGet();
+            pending = rejected;
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(backoff);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while retrying the bulk request", ex);
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF.toNanos());
+        }
+    }
+
+    // Account the items of the successful bulk request, collecting the rejected ones to be retried
+    @SuppressWarnings("unchecked")
+    private static void collect(final List<Item> items, final String body, final List<Item> rejected, Stats stats) {
+        // The top level "errors" flag is not set if all items succeeded, no need to parse the response then
+        if (!body.contains("\"errors\":true")) {
+            stats.documents.addAndGet(items.size());
+            return;
+        }
+
+        final List<Object> results = (List<Object>) Json.parseObject(body).get("items");
+        for (int i = 0; i < items.size(); ++i) {
+            final Map<String, Object> result = (Map<String, Object>) ((Map<String, Object>) results.get(i))
+                    .values()
+                    .iterator()
+                    .next();
+
+            final Object error = result.get("error");
+            final long status = ((Number) result.get("status")).longValue();
+            if (error == null) {
+                stats.documents.incrementAndGet();
+            } else if (status == 429 || error.toString().contains("rejected_execution_exception")) {
+                rejected.add(items.get(i));
+            } else {
+                stats.failed(1, error.toString());
+            }
+        }
+    }
+
+    private Item next(final BufferedReader reader) throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        if (index != null) {
+            return new Item("{\"index\":{\"_index\":" + Json.quote(index) + "}}", line);
+        }
+
+        // The "delete" action is the only one which is not followed by the document
+        final Map<String, Object> action = Json.parseObject(line);
+        if (action.containsKey("delete")) {
+            return new Item(line, null);
+        }
+
+        final String document = reader.readLine();
+        if (document == null) {
+            throw new IllegalArgumentException("The document is expected after the action: " + line);
+        }
+        return new Item(line, document);
+    }
+
+    private InputStream open() throws IOException {
+        final InputStream in = new BufferedInputStream(source.open(), 64 * 1024);
+        // Detect gzip compressed source by magic number (0x1f8b)
+        in.mark(2);
+        final int first = in.read();
+        final int second = in.read();
+        in.reset();
+        return (first == 0x1f && second == 0x8b) ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private String applyLoadSettings() {
+        final String path = "/" + loadSettingsIndex;
+        final OpenSearchHttpClient.Response exists = client.execute("HEAD", path, null);
+
+        final String originalSettings;
+        if (exists.getStatusCode() == HTTP_NOT_FOUND) {
+            expectSuccess(
+                    "Unable to create the index " + loadSettingsIndex,
+                    client.execute("PUT", path, "{\"settings\":{\"index\":{\"number_of_replicas\":0}}}"));
+            // The settings are restored to defaults (or the ones from the index templates)
+            originalSettings = "{\"index\":{\"refresh_interval\":null,\"number_of_replicas\":null}}";
+        } else {
+            final OpenSearchHttpClient.Response settings = client.execute(
+                    "GET",
+                    path + "/_settings/index.refresh_interval,index.number_of_replicas?flat_settings=true",
+                    null);
+            expectSuccess("Unable to get the settings of the index " + loadSettingsIndex, settings);
+            originalSettings = originalSettings(Json.parseObject(settings.getBody()));
+        }
+
+        expectSuccess(
+                "Unable to update the settings of the index " + loadSettingsIndex,
+                client.execute(
+                        "PUT",
+                        path + "/_settings",
+                        "{\"index\":{\"refresh_interval\":\"-1\",\"number_of_replicas\":0}}"));
+        return originalSettings;
+    }
+
+    private void restoreSettings(final String originalSettings) {
+        expectSuccess(
+                "Unable to restore the settings of the index " + loadSettingsIndex,
+                client.execute("PUT", "/" + loadSettingsIndex + "/_settings", originalSettings));
+    }
+
+    // The settings which have not been set explicitly are restored to defaults (null)
+    @SuppressWarnings("unchecked")
+    private String originalSettings(final Map<String, Object> response) {
+        Object refreshInterval = null;
+        Object numberOfReplicas = null;
+        for (final Object index : response.values()) {
+            final Map<String, Object> settings = (Map<String, Object>) ((Map<String, Object>) index).get("settings");
+            if (settings != null) {
+                refreshInterval = settings.get("index.refresh_interval");
+                numberOfReplicas = settings.get("index.number_of_replicas");
+            }
+        }
+
+        return "{\"index\":{\"refresh_interval\":"
+                + (refreshInterval == null ? "null" : Json.quote(refreshInterval.toString()))
+                + ",\"number_of_replicas\":"
+                + (numberOfReplicas == null ? "null" : Json.quote(numberOfReplicas.toString()))
+                + "}}";
+    }
+
+    private static void expectSuccess(final String message, final OpenSearchHttpClient.Response response) {
+        if (!response.isSuccessful()) {
+            throw new OpenSearchResponseException(message, response.getStatusCode(), response.getBody());
+        }
+    }
+
+    @FunctionalInterface
+    private interface InputStreamSupplier {
+        InputStream open() throws IOException;
+    }
+
+    // The bulk API action and the document (if any), the size is the estimated size of the item in bytes
+    private static final class Item {
+        private final String action;
+        private final String document;
+        private final long size;
+
+        Item(final String action, final String document) {
+            this.action = action;
+            this.document = document;
+            this.size = utf8Length(action) + (document == null ? 0 : utf8Length(document)) + 2;
+        }
+
+        private static long utf8Length(final String s) {
+            long length = s.length();
+            for (int i = 0; i < s.length(); ++i) {
+                final char c = s.charAt(i);
+                if (c >= 0x800) {
+                    length += Character.isSurrogate(c) ? 1 : 2;
+                } else if (c >= 0x80) {
+                    length += 1;
+                }
+            }
+            return length;
+        }
+    }
+
+    private static final class Stats {
+        private final AtomicLong documents = new AtomicLong();
+        private final AtomicLong failedDocuments = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final List<String> failures = new ArrayList<>();
+
+        void failed(long count, final String reason) {
+            failedDocuments.addAndGet(count);
+            synchronized (failures) {
+                if (failures.size() < MAX_FAILURES) {
+                    failures.add(reason);
+                }
+            }
+        }
+    }
+}
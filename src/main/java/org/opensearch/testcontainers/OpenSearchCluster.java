@@ -0,0 +1,448 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.Base58;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * The OpenSearch multi-node cluster: all nodes share the same {@link Network}, are cluster manager eligible
+ * and are started concurrently. Instead of probing every node individually, the cluster is considered ready
+ * once the cluster health reports the expected number of nodes and the green status. Once started, the
+ * cluster could be scaled out and in (see please {@link #addNode(String...)} and
+ * {@link #removeNode(OpenSearchContainer)}).
+ */
+public class OpenSearchCluster implements Startable {
+    private final DockerImageName dockerImageName;
+    private final int numberOfNodes;
+    private final String clusterName;
+    private final Map<String, String> env = new HashMap<>();
+    private final List<OpenSearchContainer<?>> nodes = new ArrayList<>();
+
+    private Consumer<OpenSearchContainer<?>> nodeCustomizer = node -> {};
+    private Duration startupTimeout = Duration.ofMinutes(5);
+    private boolean securityEnabled = false;
+    private Network network;
+    private boolean ownNetwork = false;
+    private OpenSearchStartScheduler startScheduler;
+    // The index of the next node to be added (the node names are never reused)
+    private int nextNode;
+
+    /**
+     * Create an OpenSearch cluster of the given size by passing the full docker image name.
+     *
+     * @param dockerImageName Full docker image name as a {@link DockerImageName}, like:
+     *
+     *      OpenSearchDockerImage.ofVersion("2.19.1")
+     *
+     * @param numberOfNodes number of nodes in the cluster
+     */
+    public OpenSearchCluster(final DockerImageName dockerImageName, int numberOfNodes) {
+        if (numberOfNodes < 1) {
+            throw new IllegalArgumentException("The cluster should have at least one node but got " + numberOfNodes);
+        }
+
+        this.dockerImageName = dockerImageName;
+        this.numberOfNodes = numberOfNodes;
+        this.clusterName = "opensearch-" + Base58.randomString(6).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Should the security plugin be enabled on every node of the cluster or stay disabled (default value).
+     * @return this cluster instance
+     */
+    public OpenSearchCluster withSecurityEnabled() {
+        this.securityEnabled = true;
+        return this;
+    }
+
+    /**
+     * Use the provided network instead of creating a dedicated one (the provided network is not closed
+     * when the cluster is stopped).
+     * @param network network to attach the nodes to
+     * @return this cluster instance
+     */
+    public OpenSearchCluster withNetwork(final Network network) {
+        this.network = network;
+        return this;
+    }
+
+    /**
+     * Set the environment variable (or OpenSearch setting) on every node of the cluster.
+     * @param key environment variable name
+     * @param value environment variable value
+     * @return this cluster instance
+     */
+    public OpenSearchCluster withEnv(final String key, final String value) {
+        env.put(key, value);
+        return this;
+    }
+
+    /**
+     * Customize every node container of the cluster before it is started.
+     * @param nodeCustomizer node customizer
+     * @return this cluster instance
+     */
+    public OpenSearchCluster withNodeCustomizer(final Consumer<OpenSearchContainer<?>> nodeCustomizer) {
+        this.nodeCustomizer = nodeCustomizer;
+        return this;
+    }
+
+    /**
+     * Set the maximum time to wait for the cluster to be formed (5 minutes by default).
+     * @param startupTimeout startup timeout
+     * @return this cluster instance
+     */
+    public OpenSearchCluster withStartupTimeout(final Duration startupTimeout) {
+        this.startupTimeout = startupTimeout;
+        return this;
+    }
+
+    /**
+     * Start the cluster once admitted by the scheduler (see please {@link OpenSearchStartScheduler}), all nodes
+     * are admitted at once since they have to boot together to form the cluster.
+     * @param startScheduler start scheduler (shared by the containers and clusters started in parallel)
+     * @return this cluster instance
+     */
+    public OpenSearchCluster withStartScheduler(final OpenSearchStartScheduler startScheduler) {
+        this.startScheduler = startScheduler;
+        return this;
+    }
+
+    @Override
+    public void start() {
+        if (!nodes.isEmpty()) {
+            return; /* already started */
+        }
+
+        if (network == null) {
+            network = Network.newNetwork();
+            ownNetwork = true;
+        }
+
+        final List<String> nodeNames = new ArrayList<>();
+        for (nextNode = 0; nextNode < numberOfNodes; ++nextNode) {
+            nodeNames.add(clusterName + "-node-" + nextNode);
+        }
+
+        for (final String nodeName : nodeNames) {
+            nodes.add(createNode(nodeName, nodeNames, true));
+        }
+
+        try {
+            if (startScheduler != null) {
+                startScheduler.admit(nodes, startupTimeout);
+            }
+
+            // Start all nodes at once, each node only waits for itself to be started
+            Startables.deepStart(nodes).join();
+            waitForCluster();
+        } catch (final RuntimeException ex) {
+            stop();
+            throw ex;
+        }
+    }
+
+    @Override
+    public void stop() {
+        nodes.parallelStream().forEach(OpenSearchContainer::stop);
+        if (startScheduler != null) {
+            // The nodes which have not been started (if the cluster failed to start) still hold the reservations
+            nodes.forEach(startScheduler::release);
+        }
+        nodes.clear();
+
+        if (ownNetwork) {
+            network.close();
+            network = null;
+            ownNetwork = false;
+        }
+    }
+
+    /**
+     * Add the node to the running cluster and wait for the shards to be rebalanced (no shards relocating).
+     * @param roles the roles of the node, like "data" or "ingest" (all roles if none)
+     * @return the result of the rebalancing, the added node is available through
+     *      {@link OpenSearchRebalanceResult#getNode()}
+     */
+    public OpenSearchRebalanceResult addNode(final String... roles) {
+        if (nodes.isEmpty()) {
+            throw new IllegalStateException("The cluster has not been started yet");
+        }
+
+        final List<String> seedHosts = new ArrayList<>();
+        for (final OpenSearchContainer<?> node : nodes) {
+            seedHosts.add(nodeName(node));
+        }
+
+        final OpenSearchContainer<?> node = createNode(clusterName + "-node-" + nextNode++, seedHosts, false);
+        if (roles.length > 0) {
+            node.withEnv("node.roles", String.join(",", roles));
+        }
+
+        final OpenSearchContainer<?> coordinator = getNode(0);
+        final Map<String, Long> before = OpenSearchRebalanceResult.captureRecoveries(coordinator.getHttpClient());
+        try {
+            node.start();
+        } catch (final RuntimeException ex) {
+            node.stop();
+            throw ex;
+        }
+        nodes.add(node);
+
+        final long joinedAt = System.nanoTime();
+        waitForRebalance(coordinator);
+        final Duration duration = Duration.ofNanos(System.nanoTime() - joinedAt);
+        return OpenSearchRebalanceResult.of(
+                node, duration, before, OpenSearchRebalanceResult.captureRecoveries(coordinator.getHttpClient()));
+    }
+
+    /**
+     * Drain the node of the running cluster (exclude it from the shards allocation and wait for its shards to
+     * be relocated to the other nodes), then stop it. The cluster manager eligible node is excluded from the
+     * voting configuration before being stopped.
+     * @param node the node of the cluster, see please {@link #getNodes()}
+     * @return the result of the draining
+     * @throws IllegalStateException if the node could not be drained (its shards could not be relocated)
+     */
+    public OpenSearchRebalanceResult removeNode(final OpenSearchContainer<?> node) {
+        if (!nodes.contains(node)) {
+            throw new IllegalArgumentException("The node is not part of the cluster: " + nodeName(node));
+        } else if (nodes.size() == 1) {
+            throw new IllegalStateException("The last node of the cluster could not be removed");
+        }
+
+        final String nodeName = nodeName(node);
+        final OpenSearchContainer<?> coordinator = nodes.get(nodes.get(0) == node ? 1 : 0);
+        final OpenSearchHttpClient client = coordinator.getHttpClient();
+        final Map<String, Long> before = OpenSearchRebalanceResult.captureRecoveries(client);
+
+        final long excludedAt = System.nanoTime();
+        client.put("/_cluster/settings", allocationExclusion(Json.quote(nodeName))).expectSuccess();
+        try {
+            waitForRebalance(coordinator);
+            final Duration duration = Duration.ofNanos(System.nanoTime() - excludedAt);
+
+            final Object shards = client.get("/_cat/shards?format=json&h=node").expectSuccess().getJson();
+            final long remaining = ((List<?>) shards).stream()
+                    .filter(shard -> nodeName.equals(((Map<?, ?>) shard).get("node")))
+                    .count();
+            if (remaining > 0) {
+                throw new IllegalStateException("The node " + nodeName + " could not be drained, " + remaining
+                        + " shards could not be relocated to the other nodes");
+            }
+
+            final OpenSearchRebalanceResult result = OpenSearchRebalanceResult.of(
+                    node, duration, before, OpenSearchRebalanceResult.captureRecoveries(client));
+
+            final boolean votingExclusion = isClusterManagerEligible(client, nodeName);
+            if (votingExclusion) {
+                client.post("/_cluster/voting_config_exclusions?node_names=" + nodeName, null).expectSuccess();
+            }
+
+            node.stop();
+            nodes.remove(node);
+
+            if (votingExclusion) {
+                // Waits for the excluded node to leave the cluster
+                client.delete("/_cluster/voting_config_exclusions").expectSuccess();
+            }
+
+            new OpenSearchWaitStrategy()
+                    .withLogMarkers(false)
+                    .forNumberOfNodes(nodes.size())
+                    .withStartupTimeout(startupTimeout)
+                    .waitUntilReady(coordinator);
+            return result;
+        } finally {
+            client.put("/_cluster/settings", allocationExclusion("null")).expectSuccess();
+        }
+    }
+
+    /**
+     * Return the nodes of the cluster (available once the cluster is started)
+     * @return the nodes of the cluster
+     */
+    public List<OpenSearchContainer<?>> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * Return the node of the cluster by its index (available once the cluster is started)
+     * @param index index of the node, starting from 0
+     * @return the node of the cluster
+     */
+    public OpenSearchContainer<?> getNode(int index) {
+        return nodes.get(index);
+    }
+
+    /**
+     * Return the name of the cluster
+     * @return the name of the cluster
+     */
+    public String getClusterName() {
+        return clusterName;
+    }
+
+    /**
+     * Return the network all nodes of the cluster are attached to
+     * @return the network of the cluster
+     */
+    public Network getNetwork() {
+        return network;
+    }
+
+    /**
+     * Return HTTP(s) host and port to connect to OpenSearch cluster (using the first node).
+     *
+     * @return HTTP(s) host and port (in a form of "host:port")
+     */
+    public String getHttpHostAddress() {
+        return getNode(0).getHttpHostAddress();
+    }
+
+    /**
+     * Return the HTTP(s) client to talk to OpenSearch cluster (using the first node), created on first use
+     * and reused afterwards, see please {@link OpenSearchContainer#getHttpClient()}.
+     *
+     * @return the HTTP(s) client of this cluster
+     */
+    public OpenSearchHttpClient getHttpClient() {
+        return getNode(0).getHttpClient();
+    }
+
+    /**
+     * Capture the snapshot of the node statistics, summed over all nodes of the cluster, see please
+     * {@link OpenSearchStats#since(OpenSearchStats)}.
+     *
+     * @return the snapshot of the node statistics
+     */
+    public OpenSearchStats captureStats() {
+        return getNode(0).captureStats();
+    }
+
+    /**
+     * Return new embedded workload driver to run against OpenSearch cluster (using the first node), see please
+     * {@link OpenSearchWorkload}. The cluster should be started.
+     *
+     * @return new workload driver
+     */
+    public OpenSearchWorkload workload() {
+        return getNode(0).workload();
+    }
+
+    /**
+     * Check if security plugin was enabled or not for this cluster
+     *
+     * @return "true" if security plugin was enabled for this cluster, "false" otherwise
+     */
+    public boolean isSecurityEnabled() {
+        return securityEnabled;
+    }
+
+    /**
+     * Return user name to connect to OpenSearch cluster (if security plugin is enabled)
+     * @return user name to connect to OpenSearch cluster
+     */
+    public String getUsername() {
+        return getNode(0).getUsername();
+    }
+
+    /**
+     * Return password to connect to OpenSearch cluster (if security plugin is enabled)
+     * @return password to connect to OpenSearch cluster
+     */
+    public String getPassword() {
+        return getNode(0).getPassword();
+    }
+
+    // The cluster is bootstrapped by the nodes started initially, the nodes added later only join it
+    private OpenSearchContainer<?> createNode(
+            final String nodeName, final List<String> seedHosts, boolean clusterBootstrap) {
+        final boolean clusterManager = OpenSearchVersion.of(dockerImageName)
+                .map(OpenSearchVersion::usesClusterManagerTerminology)
+                .orElse(true);
+        final String initialClusterManagerNodes =
+                clusterManager ? "cluster.initial_cluster_manager_nodes" : "cluster.initial_master_nodes";
+
+        @SuppressWarnings("resource")
+        final OpenSearchContainer<?> node = new OpenSearchContainer<>(dockerImageName)
+                .withEnv(env)
+                .withEnv("cluster.name", clusterName)
+                .withEnv("node.name", nodeName)
+                .withEnv("discovery.type", "zen")
+                .withEnv("discovery.seed_hosts", String.join(",", seedHosts))
+                .withNetwork(network)
+                .withNetworkAliases(nodeName)
+                .waitingFor(new OpenSearchWaitStrategy().withClusterHealth(false))
+                .withStartupTimeout(startupTimeout);
+
+        if (clusterBootstrap) {
+            node.withEnv(initialClusterManagerNodes, String.join(",", seedHosts));
+        }
+
+        if (securityEnabled) {
+            node.withSecurityEnabled();
+        }
+
+        if (startScheduler != null) {
+            node.withStartScheduler(startScheduler);
+        }
+
+        nodeCustomizer.accept(node);
+        return node;
+    }
+
+    private void waitForCluster() {
+        new OpenSearchWaitStrategy()
+                .withLogMarkers(false)
+                .forClusterStatus("green")
+                .forNumberOfNodes(numberOfNodes)
+                .withStartupTimeout(startupTimeout)
+                .waitUntilReady(getNode(0));
+    }
+
+    private void waitForRebalance(final OpenSearchContainer<?> coordinator) {
+        new OpenSearchWaitStrategy()
+                .withLogMarkers(false)
+                .forNumberOfNodes(nodes.size())
+                .forNoRelocatingShards()
+                .withStartupTimeout(startupTimeout)
+                .waitUntilReady(coordinator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isClusterManagerEligible(final OpenSearchHttpClient client, final String nodeName) {
+        final Map<String, Object> nodes = (Map<String, Object>)
+                client.get("/_nodes/" + nodeName).expectSuccess().getJsonObject().get("nodes");
+        for (final Object node : nodes.values()) {
+            final List<Object> roles = (List<Object>) ((Map<String, Object>) node).get("roles");
+            if (roles.contains("cluster_manager") || roles.contains("master")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String allocationExclusion(final String value) {
+        return "{\"transient\": {\"cluster.routing.allocation.exclude._name\": " + value + "}}";
+    }
+
+    private static String nodeName(final OpenSearchContainer<?> node) {
+        return node.getEnvMap().get("node.name");
+    }
+}
@@ -5,27 +5,45 @@
 
 package org.opensearch.testcontainers;
 
-import static java.net.HttpURLConnection.HTTP_OK;
-import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Mount;
+import com.github.dockerjava.api.model.MountType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.time.Duration;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import javax.net.ssl.SSLContext;
+import org.testcontainers.containers.BindMode;
+import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
 import org.testcontainers.containers.wait.strategy.WaitStrategy;
+import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.Base58;
 import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
 
 /**
  * The OpenSearch Docker container (single node cluster) which exposes by default ports 9200
  * (http/https) and 9300 (tcp, deprecated).
  */
 public class OpenSearchContainer<SELF extends OpenSearchContainer<SELF>> extends GenericContainer<SELF> {
-    // The initial password is required starting from OpenSearch 2.12.0
-    private static final Pattern OPENSEARCH_INITIAL_PASSWORD_VERSION = Pattern.compile(
-            "^(([3-9][.]\\d+[.]\\d+|[2][.][1][2-9]+[.]\\d+|[2][.][2-9]\\d+[.]\\d+)(-SNAPSHOT|-beta\\d+|-alpha\\d+)?|-latest)$");
-
     // Default username to connect to OpenSearch instance
     private static final String DEFAULT_USER = "admin";
     // Default password to connect to OpenSearch instance
@@ -33,12 +51,34 @@ public class OpenSearchContainer<SELF extends OpenSearchContainer<SELF>> extends
     // Default initial password to connect to OpenSearch instance
     private static final String DEFAULT_INITIAL_PASSWORD = "_ad0m#Ns_";
 
+    // The maximum time to wait for the snapshot to be created or restored
+    private static final Duration SNAPSHOT_TIMEOUT = Duration.ofMinutes(30);
+
     // Default HTTP port.
     private static final int DEFAULT_HTTP_PORT = 9200;
 
     // Default TCP port (deprecated and may be removed in future versions).
     private static final int DEFAULT_TCP_PORT = 9300;
 
+    // OpenSearch plugins path inside the container.
+    private static final String PLUGINS_PATH = "/usr/share/opensearch/plugins";
+
+    // OpenSearch snapshot repository path inside the container and the name of the repository.
+    private static final String SNAPSHOTS_PATH = "/usr/share/opensearch/snapshots";
+    private static final String SNAPSHOT_REPOSITORY = "fixtures";
+
+    // The log4j2 override (merged with the default configuration) which routes the slow logs to the console.
+    private static final String SLOW_LOG_CONFIG_PATH =
+            "/usr/share/opensearch/config/testcontainers-slowlog/log4j2.properties";
+    private static final String SLOW_LOG_TEMPLATE = "testcontainers-slowlog";
+
+    // OpenSearch data and logs paths inside the container.
+    private static final String DATA_PATH = "/usr/share/opensearch/data";
+    private static final String LOGS_PATH = "/usr/share/opensearch/logs";
+
+    // The cluster name the official images are configured with.
+    private static final String DEFAULT_CLUSTER_NAME = "docker-cluster";
+
     // OpenSearch Docker base image.
     private static final DockerImageName DEFAULT_IMAGE_NAME = DockerImageName.parse("opensearchproject/opensearch");
 
@@ -46,9 +86,70 @@ public class OpenSearchContainer<SELF extends OpenSearchContainer<SELF>> extends
     // HTTPs,
     // along with Basic Auth being used.
     private boolean disableSecurity = true;
-    private boolean requireInitialPassword = false;
+    private final boolean requireInitialPassword;
     private String password = DEFAULT_PASSWORD;
 
+    // Fast secure mode: the pre-generated certificates and security configuration instead of demo ones
+    private boolean fastSecurity = false;
+    private OpenSearchSecurityBundle securityBundle;
+
+    // Wait strategy provided explicitly using waitingFor(...), takes precedence over the default one.
+    private WaitStrategy customWaitStrategy;
+
+    // The size of in-memory (tmpfs) data path (and optionally logs path), if any.
+    private Long inMemoryDataPathSize;
+    private boolean inMemoryLogsPath = false;
+
+    // The original (base) image, the actual image could be derived from it (like minimal plugins one)
+    private final DockerImageName dockerImageName;
+
+    // The OpenSearch version (from the image tag), null if not known (like the digest or custom tag)
+    private final OpenSearchVersion version;
+
+    // The only plugins to be kept in the image (all bundled plugins are kept if not set)
+    private Set<String> pluginsOnly;
+
+    // The host directory to be used as the snapshot repository, if any
+    private Path snapshotRepository;
+
+    // The fixture hash and eviction policy of the persistent data volume (if any), the name of the volume
+    // and whether it has been reused (the data has been indexed before) or created for the last startup
+    private String dataVolumeFixtureHash;
+    private OpenSearchVolumeEvictionPolicy dataVolumeEvictionPolicy;
+    private String dataVolumeName;
+    private boolean dataVolumeReused = false;
+
+    // The slow log thresholds (search and indexing), if enabled, and the slow log events captured so far
+    private Duration slowLogSearchThreshold;
+    private Duration slowLogIndexingThreshold;
+    private final Queue<OpenSearchSlowLogEvent> slowLogEvents = new ConcurrentLinkedQueue<>();
+
+    // JVM heap and container resources
+    private OpenSearchResourceProfile resourceProfile = OpenSearchResourceProfile.none();
+
+    // The JVM options provided explicitly (through OPENSEARCH_JAVA_OPTS), the ones of the resource profile are
+    // appended to them on every start, and the values last applied (to tell the explicit changes apart)
+    private String explicitJavaOpts = "";
+    private String appliedJavaOpts;
+    private boolean appliedMemoryLock = false;
+
+    // The HTTP client of the running container, created lazily and reused (so are its connections)
+    private volatile OpenSearchHttpClient httpClient;
+
+    // The in-process proxy in front of the HTTP port of the running container, started lazily
+    private volatile OpenSearchProxy proxy;
+
+    // The scheduler admitting the start based on the Docker host capacity, if any
+    private OpenSearchStartScheduler startScheduler;
+
+    // The startup timeout: of the default readiness check and of the start admission by the scheduler
+    private Duration startupTimeout = Duration.ofMinutes(5);
+
+    // Startup instrumentation: the listeners, the recorder of the ongoing startup and the last startup timings
+    private final List<OpenSearchStartupListener> startupListeners = new CopyOnWriteArrayList<>();
+    private OpenSearchStartupRecorder startupRecorder;
+    private OpenSearchStartupTimings startupTimings;
+
     /**
      * Create an OpenSearch Container by passing the full docker image name.
      *
@@ -77,14 +178,21 @@ public class OpenSearchContainer<SELF extends OpenSearchContainer<SELF>> extends
     public OpenSearchContainer(final DockerImageName dockerImageName) {
         super(dockerImageName);
         dockerImageName.assertCompatibleWith(DEFAULT_IMAGE_NAME);
+        this.dockerImageName = dockerImageName;
+        this.version = OpenSearchVersion.of(dockerImageName).orElse(null);
+        this.requireInitialPassword = version != null && version.requiresInitialAdminPassword();
 
-        final String version = dockerImageName.getVersionPart();
-        if (version == null || version.isBlank()) {
-            requireInitialPassword = false; /* we don't know the version */
-        } else {
-            requireInitialPassword =
-                    OPENSEARCH_INITIAL_PASSWORD_VERSION.matcher(version).matches();
-        }
+        withCreateContainerCmdModifier(cmd -> resourceProfile.applyTo(cmd.getHostConfig()));
+        withCreateContainerCmdModifier(cmd -> {
+            if (dataVolumeName != null) {
+                final List<Mount> mounts = new ArrayList<>();
+                if (cmd.getHostConfig().getMounts() != null) {
+                    mounts.addAll(cmd.getHostConfig().getMounts());
+                }
+                mounts.add(new Mount().withType(MountType.VOLUME).withSource(dataVolumeName).withTarget(DATA_PATH));
+                cmd.getHostConfig().withMounts(mounts);
+            }
+        });
     }
 
     /**
@@ -97,6 +205,302 @@ public class OpenSearchContainer<SELF extends OpenSearchContainer<SELF>> extends
         return self();
     }
 
+    /**
+     * Enable the security plugin in the fast secure mode: instead of running the demo configuration installer
+     * on every start, the pre-generated (once, cached locally) certificates, opensearch.yml and internal users
+     * (with the admin password hashed) are mounted into the container. The HTTP(s) client trusts the mounted
+     * certificates only, see please {@link #getSslContext()}.
+     * @return this container instance
+     */
+    public SELF withFastSecurityEnabled() {
+        this.disableSecurity = false;
+        this.fastSecurity = true;
+        return self();
+    }
+
+    /**
+     * Mount the OpenSearch data path (/usr/share/opensearch/data) in memory (tmpfs) so Lucene segment flushes
+     * and translog fsyncs do not hit the disk. Please note that the content of the data path is lost once
+     * the container is stopped.
+     *
+     * @param size maximum size of the mount, like 512m or 2g
+     * @return this container instance
+     */
+    public SELF withInMemoryDataPath(final String size) {
+        return withInMemoryDataPath(size, false);
+    }
+
+    /**
+     * Mount the OpenSearch data path (/usr/share/opensearch/data) and optionally logs path
+     * (/usr/share/opensearch/logs) in memory (tmpfs), see please {@link #withInMemoryDataPath(String)}.
+     *
+     * @param size maximum size of the mount(s), like 512m or 2g
+     * @param includeLogs "true" to mount the logs path in memory as well
+     * @return this container instance
+     */
+    public SELF withInMemoryDataPath(final String size, boolean includeLogs) {
+        this.inMemoryDataPathSize = OpenSearchResourceProfile.parseSize(size);
+        this.inMemoryLogsPath = includeLogs;
+        return self();
+    }
+
+    /**
+     * Mount the OpenSearch data path (/usr/share/opensearch/data) from the persistent (named) Docker volume,
+     * so the indexed data survives the container restarts (and is shared by the subsequent runs). The volume
+     * name is derived from the image version, the cluster name and the fixture hash, the least recently used
+     * volumes are evicted as per {@link OpenSearchVolumeEvictionPolicy#lru()} policy.
+     *
+     * @param fixtureHash the hash of the fixtures (data), should change whenever the fixtures change
+     * @return this container instance
+     */
+    public SELF withPersistentDataVolume(final String fixtureHash) {
+        return withPersistentDataVolume(fixtureHash, OpenSearchVolumeEvictionPolicy.lru());
+    }
+
+    /**
+     * Mount the OpenSearch data path (/usr/share/opensearch/data) from the persistent (named) Docker volume,
+     * see please {@link #withPersistentDataVolume(String)}. Once the container is started from the reused
+     * volume, all indices are validated to be recovered cleanly. Use {@link #isDataVolumeReused()} to find out
+     * if the fixtures have to be indexed or not.
+     *
+     * @param fixtureHash the hash of the fixtures (data), should change whenever the fixtures change
+     * @param evictionPolicy the eviction policy of the persistent data volumes
+     * @return this container instance
+     */
+    public SELF withPersistentDataVolume(
+            final String fixtureHash, final OpenSearchVolumeEvictionPolicy evictionPolicy) {
+        if (fixtureHash == null || fixtureHash.isBlank()) {
+            throw new IllegalArgumentException("The fixture hash should not be empty");
+        }
+        this.dataVolumeFixtureHash = fixtureHash;
+        this.dataVolumeEvictionPolicy = evictionPolicy;
+        return self();
+    }
+
+    /**
+     * Strip all bundled plugins (except the security one, if security plugin is enabled) from the image and
+     * disable performance analyzer agent. The stripped image is built once per base image and kept locally.
+     * @return this container instance
+     */
+    public SELF withMinimalPlugins() {
+        return withPluginsOnly();
+    }
+
+    /**
+     * Strip all bundled plugins except the listed ones (and the security one, if security plugin is enabled)
+     * from the image and disable performance analyzer agent. The stripped image is built once per base image
+     * and the plugins set and kept locally. Please note that the dependencies of the listed plugins (if any,
+     * like opensearch-job-scheduler for opensearch-alerting) should be listed as well.
+     * @param plugins plugins to keep, like "opensearch-job-scheduler"
+     * @return this container instance
+     */
+    public SELF withPluginsOnly(final String... plugins) {
+        this.pluginsOnly = new TreeSet<>(Arrays.asList(plugins));
+        return self();
+    }
+
+    /**
+     * Bind-mount the host directory as the shared file system snapshot repository (registered as "fixtures"
+     * repository once the container is started). The snapshots are kept in the host directory, so they
+     * could be created once and restored by the subsequent runs, see please
+     * {@link #createFixtureSnapshot(String, String...)} and {@link #restoreFixture(String)}.
+     *
+     * @param hostDirectory host directory (created if it does not exist)
+     * @return this container instance
+     */
+    public SELF withSnapshotRepository(final Path hostDirectory) {
+        try {
+            Files.createDirectories(hostDirectory);
+            // The OpenSearch process runs as "opensearch" user (uid / gid 1000) and has to write to it
+            Files.setPosixFilePermissions(hostDirectory, PosixFilePermissions.fromString("rwxrwxrwx"));
+        } catch (final UnsupportedOperationException ex) {
+            // Non POSIX file system, nothing to adjust
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to prepare the snapshot repository " + hostDirectory, ex);
+        }
+
+        this.snapshotRepository = hostDirectory.toAbsolutePath();
+        withFileSystemBind(snapshotRepository.toString(), SNAPSHOTS_PATH, BindMode.READ_WRITE);
+        return withEnv("path.repo", SNAPSHOTS_PATH);
+    }
+
+    /**
+     * Enable the search (query and fetch phases) and indexing slow logs with the given thresholds: the slow
+     * log events are captured from the container output and could be inspected with
+     * {@link #getSlowLogEvents()}. The thresholds are applied to all indices (using the index template),
+     * except the ones created from the composable index templates, see please {@link #enableSlowLog(String)}.
+     *
+     * @param searchThreshold the search threshold (per shard and per phase), {@link Duration#ZERO} logs all
+     * @param indexingThreshold the indexing threshold, {@link Duration#ZERO} logs all
+     * @return this container instance
+     */
+    public SELF withSlowLog(final Duration searchThreshold, final Duration indexingThreshold) {
+        if (searchThreshold.isNegative() || indexingThreshold.isNegative()) {
+            throw new IllegalArgumentException("The slow log thresholds should not be negative");
+        }
+
+        this.slowLogSearchThreshold = searchThreshold;
+        this.slowLogIndexingThreshold = indexingThreshold;
+        return self();
+    }
+
+    /**
+     * Apply the slow log thresholds (see please {@link #withSlowLog(Duration, Duration)}) to the existing index
+     * (or indices), for example to the ones created from the composable index templates. The container should
+     * be started.
+     *
+     * @param index the index (or the comma-separated list of indices, the pattern)
+     * @throws OpenSearchResponseException if the settings could not be applied
+     */
+    public void enableSlowLog(final String index) {
+        if (slowLogSearchThreshold == null) {
+            throw new IllegalStateException("The slow log is not enabled, see withSlowLog()");
+        }
+        getHttpClient().put("/" + index + "/_settings", slowLogSettings()).expectSuccess();
+    }
+
+    /**
+     * Return the slow log events captured so far (since the container start or the last
+     * {@link #clearSlowLogEvents()})
+     *
+     * @return the slow log events captured, in order
+     */
+    public List<OpenSearchSlowLogEvent> getSlowLogEvents() {
+        return List.copyOf(slowLogEvents);
+    }
+
+    /**
+     * Discard the slow log events captured so far, for example before the test block
+     */
+    public void clearSlowLogEvents() {
+        slowLogEvents.clear();
+    }
+
+    /**
+     * Apply the JVM heap and container resources profile, replacing the previously configured one.
+     * @param resourceProfile resource profile, like {@link OpenSearchResourceProfile#tinyCiNode()}
+     * @return this container instance
+     */
+    public SELF withResourceProfile(final OpenSearchResourceProfile resourceProfile) {
+        this.resourceProfile = resourceProfile;
+        return self();
+    }
+
+    /**
+     * Set the JVM heap size (both initial and maximum), passed through OPENSEARCH_JAVA_OPTS.
+     * @param heapSize heap size, like 512m or 2g
+     * @return this container instance
+     */
+    public SELF withHeapSize(final String heapSize) {
+        return withResourceProfile(resourceProfile.withHeapSize(heapSize));
+    }
+
+    /**
+     * Set the container memory limit (if heap size is not set, it is going to be half of the memory limit).
+     * @param memoryLimit memory limit, like 1g or 1536m
+     * @return this container instance
+     */
+    public SELF withMemoryLimit(final String memoryLimit) {
+        return withResourceProfile(resourceProfile.withMemoryLimit(memoryLimit));
+    }
+
+    /**
+     * Set the container CPU limit.
+     * @param cpuLimit number of CPUs (could be fractional, like 0.5)
+     * @return this container instance
+     */
+    public SELF withCpuLimit(double cpuLimit) {
+        return withResourceProfile(resourceProfile.withCpuLimit(cpuLimit));
+    }
+
+    /**
+     * Set the JVM garbage collector.
+     * @param garbageCollector garbage collector
+     * @return this container instance
+     */
+    public SELF withGarbageCollector(final OpenSearchResourceProfile.GarbageCollector garbageCollector) {
+        return withResourceProfile(resourceProfile.withGarbageCollector(garbageCollector));
+    }
+
+    /**
+     * Lock the JVM memory (bootstrap.memory_lock) so it is never swapped out.
+     * @return this container instance
+     */
+    public SELF withMemoryLock() {
+        return withResourceProfile(resourceProfile.withMemoryLock(true));
+    }
+
+    /**
+     * Return the JVM heap and container resources profile of this container
+     * @return the resource profile
+     */
+    public OpenSearchResourceProfile getResourceProfile() {
+        return resourceProfile;
+    }
+
+    /**
+     * Replace the default readiness check ({@link OpenSearchWaitStrategy}) with a custom wait strategy.
+     * @param waitStrategy custom wait strategy
+     * @return this container instance
+     */
+    @Override
+    public SELF waitingFor(WaitStrategy waitStrategy) {
+        this.customWaitStrategy = waitStrategy;
+        return super.waitingFor(waitStrategy);
+    }
+
+    /**
+     * Set the startup timeout, which bounds both the wait for the start admission by the scheduler (see please
+     * {@link #withStartScheduler(OpenSearchStartScheduler)}) and the readiness check (5 minutes by default).
+     * @param startupTimeout startup timeout
+     * @return this container instance
+     */
+    @Override
+    public SELF withStartupTimeout(final Duration startupTimeout) {
+        this.startupTimeout = startupTimeout;
+        return super.withStartupTimeout(startupTimeout);
+    }
+
+    /**
+     * Register the listener to be notified about the startup phases once the container is started.
+     * @param listener startup listener
+     * @return this container instance
+     */
+    public SELF withStartupListener(final OpenSearchStartupListener listener) {
+        this.startupListeners.add(listener);
+        return self();
+    }
+
+    /**
+     * Start the container once admitted by the scheduler (see please {@link OpenSearchStartScheduler}), which
+     * takes the Docker host capacity and the resources of the containers started in parallel into account.
+     * @param startScheduler start scheduler (shared by the containers started in parallel)
+     * @return this container instance
+     */
+    public SELF withStartScheduler(final OpenSearchStartScheduler startScheduler) {
+        this.startScheduler = startScheduler;
+        return self();
+    }
+
+    @Override
+    protected void doStart() {
+        final Duration queueWait =
+                (startScheduler != null) ? startScheduler.admit(this, startupTimeout) : Duration.ZERO;
+        startupRecorder = new OpenSearchStartupRecorder(queueWait);
+        try {
+            super.doStart();
+        } catch (final RuntimeException ex) {
+            if (startScheduler != null) {
+                startScheduler.release(this);
+            }
+            throw ex;
+        }
+
+        if (startScheduler != null) {
+            startScheduler.booted(this);
+        }
+    }
+
     @Override
     protected void configure() {
         super.configure();
@@ -117,27 +521,500 @@ public class OpenSearchContainer<SELF extends OpenSearchContainer<SELF>> extends
         }
         addExposedPorts(DEFAULT_HTTP_PORT, DEFAULT_TCP_PORT);
 
-        final WaitStrategy waitStrategy;
-        if (!disableSecurity) {
-            // By default, OpenSearch uses self-signed certificates for HTTPS, allowing insecure
-            // connection in order to skip the certificate validation checks.
-            waitStrategy = new HttpWaitStrategy()
-                    .usingTls()
-                    .allowInsecure()
-                    .forPort(DEFAULT_HTTP_PORT)
-                    .withBasicCredentials(DEFAULT_USER, password)
-                    .forStatusCodeMatching(response -> response == HTTP_OK || response == HTTP_UNAUTHORIZED)
-                    .withReadTimeout(Duration.ofSeconds(10))
-                    .withStartupTimeout(Duration.ofMinutes(5));
-        } else {
-            waitStrategy = new HttpWaitStrategy()
-                    .forPort(DEFAULT_HTTP_PORT)
-                    .forStatusCodeMatching(response -> response == HTTP_OK)
-                    .withReadTimeout(Duration.ofSeconds(10))
-                    .withStartupTimeout(Duration.ofMinutes(5));
-        }
-
-        setWaitStrategy(waitStrategy);
+        if (fastSecurity && !disableSecurity) {
+            securityBundle = OpenSearchSecurityBundle.resolve(dockerImageName, password);
+            withEnv("DISABLE_INSTALL_DEMO_CONFIG", "true");
+            withCopyFileToContainer(
+                    MountableFile.forHostPath(securityBundle.getOpensearchYml(), 0644),
+                    OpenSearchSecurityBundle.CONFIG_PATH + "opensearch.yml");
+            withCopyFileToContainer(
+                    MountableFile.forHostPath(securityBundle.getNodeKeyStore(), 0644),
+                    OpenSearchSecurityBundle.CERTIFICATES_PATH + "node.p12");
+            withCopyFileToContainer(
+                    MountableFile.forHostPath(securityBundle.getTrustStore(), 0644),
+                    OpenSearchSecurityBundle.CERTIFICATES_PATH + "truststore.p12");
+            withCopyFileToContainer(
+                    MountableFile.forHostPath(securityBundle.getInternalUsers(), 0644),
+                    securityConfigPath() + "internal_users.yml");
+        }
+
+        if (slowLogSearchThreshold != null) {
+            // The log4j2.properties files found in the config directory (recursively) are merged together
+            withCopyToContainer(
+                    Transferable.of("appender.testcontainers_slowlog.type = Console\n"
+                            + "appender.testcontainers_slowlog.name = testcontainers_slowlog\n"
+                            + "appender.testcontainers_slowlog.layout.type = PatternLayout\n"
+                            + "appender.testcontainers_slowlog.layout.pattern = "
+                            + OpenSearchSlowLogEvent.PREFIX + "%c|%m%n\n"
+                            + slowLogLogger("index.search.slowlog")
+                            + slowLogLogger("index.indexing.slowlog.index")),
+                    SLOW_LOG_CONFIG_PATH);
+        }
+
+        if (pluginsOnly != null) {
+            final Set<String> plugins = new TreeSet<>(pluginsOnly);
+            if (!disableSecurity) {
+                plugins.add("opensearch-security");
+            }
+            setDockerImageName(minimalPluginsImage(plugins));
+            withEnv("DISABLE_PERFORMANCE_ANALYZER_AGENT_CLI", "true");
+        }
+
+        // The options provided explicitly are preserved, the profile ones are appended to take precedence (and
+        // are rebuilt on every start, so the profile could be replaced or removed between the restarts)
+        final String existing = getEnvMap().get("OPENSEARCH_JAVA_OPTS");
+        if (existing == null || !existing.equals(appliedJavaOpts)) {
+            explicitJavaOpts = (existing != null) ? existing.trim() : "";
+        }
+        final String javaOpts = (explicitJavaOpts + " " + resourceProfile.getJavaOpts()).trim();
+        if (existing != null || !javaOpts.isEmpty()) {
+            withEnv("OPENSEARCH_JAVA_OPTS", javaOpts);
+        }
+        appliedJavaOpts = javaOpts;
+
+        if (resourceProfile.isMemoryLock()) {
+            withEnv("bootstrap.memory_lock", "true");
+        } else if (appliedMemoryLock) {
+            withEnv("bootstrap.memory_lock", "false");
+        }
+        appliedMemoryLock = resourceProfile.isMemoryLock();
+
+        final boolean dataPathMounted = dataVolumeFixtureHash != null || inMemoryDataPathSize != null;
+        if (dataPathMounted && OpenSearchWarmImage.isWarm(dockerImageName)) {
+            throw new IllegalStateException("The warm image " + dockerImageName.asCanonicalNameString()
+                    + " could not be combined with the persistent data volume or in-memory data path: both are"
+                    + " mounted over the data path and would hide the fixtures baked into the image");
+        }
+
+        if (dataVolumeFixtureHash != null) {
+            if (inMemoryDataPathSize != null) {
+                throw new IllegalStateException("The persistent data volume and in-memory data path are exclusive");
+            }
+
+            dataVolumeName = OpenSearchDataVolumes.name(
+                    dockerImageName.getVersionPart(),
+                    getEnvMap().getOrDefault("cluster.name", DEFAULT_CLUSTER_NAME),
+                    dataVolumeFixtureHash);
+            OpenSearchDataVolumes.evict(dataVolumeEvictionPolicy, dataVolumeName);
+            dataVolumeReused = OpenSearchDataVolumes.acquire(dataVolumeName);
+        }
+
+        if (inMemoryDataPathSize != null) {
+            // The OpenSearch process runs as "opensearch" user (uid / gid 1000)
+            final String options = "rw,nosuid,nodev,size=" + inMemoryDataPathSize + ",uid=1000,gid=1000,mode=0770";
+            final Map<String, String> tmpfs = new HashMap<>();
+            tmpfs.put(DATA_PATH, options);
+            if (inMemoryLogsPath) {
+                tmpfs.put(LOGS_PATH, options);
+            }
+            withTmpFs(tmpfs);
+        }
+
+        if (customWaitStrategy == null) {
+            setWaitStrategy(new OpenSearchWaitStrategy().withStartupTimeout(startupTimeout));
+        }
+
+        if (startupRecorder != null) {
+            // Resolve (pull or build) the image upfront so it could be accounted separately
+            getDockerImageName();
+            startupRecorder.imageResolved();
+        }
+    }
+
+    @Override
+    protected void containerIsCreated(String containerId) {
+        super.containerIsCreated(containerId);
+        if (startupRecorder != null) {
+            startupRecorder.containerCreated();
+        }
+    }
+
+    @Override
+    protected void containerIsStarting(InspectContainerResponse containerInfo) {
+        super.containerIsStarting(containerInfo);
+        // The ports are mapped anew on every start
+        httpClient = null;
+
+        if (inMemoryDataPathSize != null) {
+            verifyInMemoryMount(DATA_PATH);
+            if (inMemoryLogsPath) {
+                verifyInMemoryMount(LOGS_PATH);
+            }
+        }
+
+        if (slowLogSearchThreshold != null) {
+            followOutput(frame -> {
+                for (final String line : frame.getUtf8String().split("\n")) {
+                    final OpenSearchSlowLogEvent event = OpenSearchSlowLogEvent.parse(line);
+                    if (event != null) {
+                        slowLogEvents.add(event);
+                    }
+                }
+            });
+        }
+
+        if (startupRecorder != null) {
+            startupRecorder.containerStarted();
+            followOutput(startupRecorder);
+        }
+    }
+
+    @Override
+    protected void containerIsStarted(InspectContainerResponse containerInfo) {
+        super.containerIsStarted(containerInfo);
+        if (dataVolumeReused) {
+            verifyDataVolumeRecovery();
+        }
+
+        if (snapshotRepository != null) {
+            expectSuccess(
+                    "Unable to register the snapshot repository",
+                    getHttpClient()
+                            .execute(
+                                    "PUT",
+                                    "/_snapshot/" + SNAPSHOT_REPOSITORY,
+                                    "{\"type\":\"fs\",\"settings\":{\"location\":\"" + SNAPSHOTS_PATH + "\"}}"));
+        }
+
+        if (slowLogSearchThreshold != null) {
+            // The legacy index templates (unlike composable ones) are merged, the lowest order lets others override
+            getHttpClient()
+                    .put(
+                            "/_template/" + SLOW_LOG_TEMPLATE,
+                            "{\"index_patterns\":[\"*\"],\"order\":-1,\"settings\":" + slowLogSettings() + "}")
+                    .expectSuccess();
+        }
+
+        if (startupRecorder != null) {
+            startupTimings = startupRecorder.ready(startupListeners);
+            startupRecorder = null;
+        }
+    }
+
+    @Override
+    protected void containerIsStopping(InspectContainerResponse containerInfo) {
+        super.containerIsStopping(containerInfo);
+        if (dataVolumeName != null) {
+            releaseDataVolume();
+        }
+
+        if (startScheduler != null) {
+            startScheduler.release(this);
+        }
+
+        final OpenSearchProxy current = proxy;
+        if (current != null) {
+            proxy = null;
+            current.close();
+        }
+    }
+
+    /**
+     * Check if the persistent data volume (see please {@link #withPersistentDataVolume(String)}) has been
+     * reused by the last startup (so the fixtures are indexed already) or created from scratch.
+     *
+     * @return "true" if the persistent data volume has been reused, "false" otherwise
+     */
+    public boolean isDataVolumeReused() {
+        return dataVolumeReused;
+    }
+
+    /**
+     * Return the SSL context which trusts the certificates of this container: in the fast secure mode (see
+     * please {@link #withFastSecurityEnabled()}) the certificates issued by the pre-generated CA only, otherwise
+     * (the demo certificates) any certificate.
+     * @return the SSL context which trusts the certificates of this container
+     * @throws IllegalStateException if the security plugin is not enabled
+     */
+    public SSLContext getSslContext() {
+        if (disableSecurity) {
+            throw new IllegalStateException("The security plugin is not enabled");
+        }
+        return securityBundle != null ? securityBundle.sslContext() : OpenSearchHttpClient.trustAllSslContext();
+    }
+
+    /**
+     * Return the HTTP(s) client of this container, created on first use and reused afterwards (so are its
+     * keep-alive connections). The TLS (trusting self-signed certificates) and the credentials are configured
+     * according to {@link #isSecurityEnabled()} and {@link #getPassword()}. The container should be started.
+     * @return the HTTP(s) client of this container
+     */
+    public OpenSearchHttpClient getHttpClient() {
+        OpenSearchHttpClient client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = httpClient;
+                if (client == null) {
+                    client = new OpenSearchHttpClient(this);
+                    httpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Return new parallel bulk loader to seed this container with the documents, see please
+     * {@link OpenSearchBulkLoader}. The container should be started.
+     * @return new bulk loader
+     */
+    public OpenSearchBulkLoader bulkLoader() {
+        return new OpenSearchBulkLoader(getHttpClient());
+    }
+
+    /**
+     * Return new embedded workload driver to run the performance smoke tests against this container, see please
+     * {@link OpenSearchWorkload}. The container should be started.
+     * @return new workload driver
+     */
+    public OpenSearchWorkload workload() {
+        return new OpenSearchWorkload(getHttpClient());
+    }
+
+    /**
+     * Return the in-process TCP proxy in front of the HTTP(s) port of this container, started on first use and
+     * stopped along with the container. The network conditions (latency, bandwidth cap, connection resets) could be
+     * simulated for the clients connecting to {@link OpenSearchProxy#getHttpHostAddress()} instead of
+     * {@link #getHttpHostAddress()}. The container should be started.
+     * @return the proxy in front of the HTTP(s) port of this container
+     */
+    public OpenSearchProxy getProxy() {
+        OpenSearchProxy current = proxy;
+        if (current == null) {
+            synchronized (this) {
+                current = proxy;
+                if (current == null) {
+                    current = new OpenSearchProxy(
+                            disableSecurity ? "http" : "https",
+                            new InetSocketAddress(getHost(), getMappedPort(DEFAULT_HTTP_PORT)));
+                    proxy = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Capture the snapshot of the node statistics (summed over all nodes of the cluster this container is a part
+     * of), to be compared with the later one, see please {@link OpenSearchStats#since(OpenSearchStats)}.
+     * @return the snapshot of the node statistics
+     */
+    public OpenSearchStats captureStats() {
+        return OpenSearchStats.capture(getHttpClient());
+    }
+
+    /**
+     * Create (or replace) the snapshot of the given indices in the snapshot repository, see please
+     * {@link #withSnapshotRepository(Path)}. The global cluster state is not included into the snapshot.
+     *
+     * @param name the name of the snapshot (lowercase)
+     * @param indices the indices (or index patterns) to include into the snapshot
+     * @throws OpenSearchResponseException if snapshot could not be created
+     */
+    public void createFixtureSnapshot(final String name, final String... indices) {
+        requireSnapshotRepository();
+
+        final OpenSearchHttpClient client = getHttpClient();
+        if (hasFixture(name)) {
+            expectSuccess(
+                    "Unable to delete the snapshot " + name,
+                    client.execute("DELETE", "/_snapshot/" + SNAPSHOT_REPOSITORY + "/" + name, null));
+        }
+
+        final OpenSearchHttpClient.Response response = client.execute(
+                "PUT",
+                "/_snapshot/" + SNAPSHOT_REPOSITORY + "/" + name + "?wait_for_completion=true",
+                "{\"indices\":\"" + String.join(",", indices) + "\",\"include_global_state\":false}",
+                SNAPSHOT_TIMEOUT);
+        expectSuccess("Unable to create the snapshot " + name, response);
+        if (!response.getBody().contains("\"state\":\"SUCCESS\"")) {
+            throw new OpenSearchResponseException(
+                    "The snapshot " + name + " is not successful", response.getStatusCode(), response.getBody());
+        }
+    }
+
+    /**
+     * Check if the snapshot exists in the snapshot repository, see please {@link #withSnapshotRepository(Path)}.
+     * @param name the name of the snapshot
+     * @return "true" if the snapshot exists, "false" otherwise
+     */
+    public boolean hasFixture(final String name) {
+        requireSnapshotRepository();
+
+        final OpenSearchHttpClient.Response response =
+                getHttpClient().execute("GET", "/_snapshot/" + SNAPSHOT_REPOSITORY + "/" + name, null);
+        if (response.getStatusCode() == HTTP_NOT_FOUND) {
+            return false;
+        }
+
+        expectSuccess("Unable to check the snapshot " + name, response);
+        return true;
+    }
+
+    /**
+     * Restore all indices from the snapshot in the snapshot repository (the indices with the same names
+     * should not exist), see please {@link #withSnapshotRepository(Path)}. Restoring the segment files is
+     * much faster than re-indexing the documents.
+     *
+     * @param name the name of the snapshot
+     * @throws OpenSearchResponseException if snapshot could not be restored
+     */
+    public void restoreFixture(final String name) {
+        requireSnapshotRepository();
+
+        expectSuccess(
+                "Unable to restore the snapshot " + name,
+                getHttpClient()
+                        .execute(
+                                "POST",
+                                "/_snapshot/" + SNAPSHOT_REPOSITORY + "/" + name + "/_restore?wait_for_completion=true",
+                                "{\"include_global_state\":false}",
+                                SNAPSHOT_TIMEOUT));
+    }
+
+    private String slowLogSettings() {
+        final String search = Json.quote(slowLogSearchThreshold.toNanos() + "nanos");
+        final String indexing = Json.quote(slowLogIndexingThreshold.toNanos() + "nanos");
+        return "{\"index.search.slowlog.threshold.query.warn\":" + search
+                + ",\"index.search.slowlog.threshold.fetch.warn\":" + search
+                + ",\"index.indexing.slowlog.threshold.index.warn\":" + indexing + "}";
+    }
+
+    private static String slowLogLogger(final String logger) {
+        final String prefix = "logger." + logger.replace('.', '_') + "_testcontainers.";
+        return prefix + "name = " + logger + "\n"
+                + prefix + "level = trace\n"
+                + prefix + "appenderRef.testcontainers_slowlog.ref = testcontainers_slowlog\n"
+                + prefix + "additivity = false\n";
+    }
+
+    private void requireSnapshotRepository() {
+        if (snapshotRepository == null) {
+            throw new IllegalStateException("The snapshot repository is not configured, see withSnapshotRepository()");
+        }
+    }
+
+    private static void expectSuccess(final String message, final OpenSearchHttpClient.Response response) {
+        if (!response.isSuccessful()) {
+            throw new OpenSearchResponseException(message, response.getStatusCode(), response.getBody());
+        }
+    }
+
+    // The security configuration (YAML files) path, depends on the version
+    private String securityConfigPath() {
+        if (version != null && !version.hasSecurityConfigInConfigPath()) {
+            return PLUGINS_PATH + "/opensearch-security/securityconfig/";
+        }
+        return OpenSearchSecurityBundle.CONFIG_PATH + "opensearch-security/";
+    }
+
+    private String minimalPluginsImage(final Set<String> plugins) {
+        final String baseImage = dockerImageName.asCanonicalNameString();
+        // The hash goes into the repository name so the tag stays the OpenSearch version, the base image is
+        // hashed by its ID so the stripped image is rebuilt whenever the base image changes under the same tag
+        final String baseImageId = OpenSearchDerivedImages.imageId(dockerImageName);
+        final String hash = OpenSearchDerivedImages.hash(baseImageId, String.join(",", plugins));
+        final String image = OpenSearchDerivedImages.REPOSITORY + "/opensearch-minimal-" + hash + ":"
+                + dockerImageName.getVersionPart();
+
+        // Removing the plugin folders is much faster than running opensearch-plugin tool for each plugin
+        final String removePlugins = "cd " + PLUGINS_PATH + " && for plugin in *; do case \" "
+                + String.join(" ", plugins) + " \" in *\" $plugin \"*) ;; *) rm -rf \"$plugin\" ;; esac; done";
+
+        return OpenSearchDerivedImages.resolve(image, () -> OpenSearchDerivedImages.dockerfile(image)
+                .withDockerfileFromBuilder(
+                        builder -> builder.from(baseImage).run(removePlugins).build()));
+    }
+
+    // All the indices recorded when the volume was last released should be present, with all primaries started
+    private void verifyDataVolumeRecovery() {
+        final OpenSearchHttpClient.Response response =
+                getHttpClient().execute("GET", "/_cat/shards?h=index,prirep,state&expand_wildcards=all", null);
+        expectSuccess("Unable to verify the indices recovered from the data volume " + dataVolumeName, response);
+
+        final Set<String> missing = new TreeSet<>(OpenSearchDataVolumes.indices(dataVolumeName));
+        final Set<String> failed = new TreeSet<>();
+        response.getBody().lines().map(line -> line.trim().split("\\s+")).forEach(shard -> {
+            missing.remove(shard[0]);
+            if (shard.length > 2 && shard[1].equals("p") && !shard[2].equals("STARTED")) {
+                failed.add(shard[0]);
+            }
+        });
+
+        if (!missing.isEmpty() || !failed.isEmpty()) {
+            throw new ContainerLaunchException("The indices have not been recovered cleanly from the data volume "
+                    + dataVolumeName + " (missing: " + missing + ", not started: " + failed
+                    + "), please remove the volume to index the fixtures from scratch");
+        }
+    }
+
+    // Flush the indices (so the next startup does not need to replay the translog) and record the volume usage
+    private void releaseDataVolume() {
+        try {
+            final OpenSearchHttpClient client = getHttpClient();
+            client.execute("POST", "/_flush", null);
+
+            final OpenSearchHttpClient.Response indices =
+                    client.execute("GET", "/_cat/indices?h=index&expand_wildcards=all", null);
+            expectSuccess("Unable to list the indices", indices);
+
+            final ExecResult du = execInContainer("du", "-sk", DATA_PATH);
+            final long size = Long.parseLong(du.getStdout().trim().split("\\s+")[0]) * 1024L;
+
+            OpenSearchDataVolumes.release(
+                    dataVolumeName, size, new TreeSet<>(indices.getBody().lines()
+                            .map(String::trim)
+                            .filter(index -> !index.isEmpty())
+                            .collect(Collectors.toSet())));
+        } catch (final IOException | RuntimeException ex) {
+            logger().warn("Unable to record the usage of the data volume {}", dataVolumeName, ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void verifyInMemoryMount(final String path) {
+        final ExecResult result;
+        try {
+            result = execInContainer("cat", "/proc/mounts");
+        } catch (final IOException ex) {
+            throw new ContainerLaunchException("Unable to verify the in-memory mount of " + path, ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while verifying the in-memory mount of " + path, ex);
+        }
+
+        // Every line of /proc/mounts is: <device> <mount point> <file system type> <options> <dump> <pass>
+        final boolean mounted = result.getStdout()
+                .lines()
+                .map(line -> line.split("\\s+"))
+                .anyMatch(mount -> mount.length > 2 && mount[1].equals(path) && mount[2].equals("tmpfs"));
+        if (!mounted) {
+            throw new ContainerLaunchException("The path " + path + " is expected to be mounted in memory (tmpfs)");
+        }
+    }
+
+    /**
+     * Return the durations of the startup phases of this container (image resolution, container creation and
+     * start, node boot, security initialization and readiness).
+     *
+     * @return the startup timings of the last container startup
+     * @throws IllegalStateException if the container has not been started yet
+     */
+    public OpenSearchStartupTimings getStartupTimings() {
+        if (startupTimings == null) {
+            throw new IllegalStateException("The container has not been started yet");
+        }
+        return startupTimings;
+    }
+
+    /**
+     * Return the OpenSearch version of this container (from the image tag)
+     *
+     * @return the OpenSearch version or empty if not known (like for the digest or custom tag)
+     */
+    public Optional<OpenSearchVersion> getVersion() {
+        return Optional.ofNullable(version);
     }
 
     /**
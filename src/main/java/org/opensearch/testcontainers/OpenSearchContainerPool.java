@@ -0,0 +1,255 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.utility.Base58;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * The pool of the shared OpenSearch containers (or clusters): the container is started once (on the first
+ * lease) and shared by all test classes in the same JVM, until the JVM exits. Every lease gets its own
+ * unique prefix to namespace the indices, aliases, templates and pipelines, so many tests (including
+ * the ones run in parallel) could use the same container in isolation:
+ *
+ *      try (OpenSearchLease&lt;OpenSearchContainer&lt;?&gt;&gt; lease =
+ *              OpenSearchContainerPool.containers(image).lease()) {
+ *          final String index = lease.prefixed("books");
+ *          ...
+ *          lease.reset(); // delete everything under the prefix, done on close() as well
+ *      }
+ *
+ * The pool could be made of a number of containers (see please
+ * {@link #containers(String, Supplier, int)}), so the tests run in parallel do not contend for the single
+ * one: every lease is handed out by the least loaded container (the one with the fewest active leases, the
+ * started containers are preferred over the ones not started yet), the containers are started on demand. The
+ * pool of the containers sharing the start scheduler (see please
+ * {@link #containers(String, Supplier, int, OpenSearchStartScheduler, OpenSearchResourceProfile)}) starts one
+ * more container only if the scheduler admits it right away, the started ones are shared otherwise.
+ *
+ * @param <T> the type of the pooled container (or cluster)
+ */
+public final class OpenSearchContainerPool<T extends Startable> {
+    private static final Map<String, OpenSearchContainerPool<?>> POOLS = new ConcurrentHashMap<>();
+
+    private final Supplier<T> factory;
+    private final Function<T, OpenSearchHttpClient> httpClient;
+    // Could one more member be started right away (otherwise the started members are shared)
+    private final BooleanSupplier admissible;
+    private final List<Member<T>> members = new ArrayList<>();
+
+    private OpenSearchContainerPool(
+            final Supplier<T> factory,
+            final Function<T, OpenSearchHttpClient> httpClient,
+            int size,
+            final BooleanSupplier admissible) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The pool should have at least one container but got " + size);
+        }
+
+        this.factory = factory;
+        this.httpClient = httpClient;
+        this.admissible = admissible;
+        for (int member = 0; member < size; ++member) {
+            members.add(new Member<>());
+        }
+    }
+
+    /**
+     * Return the pool of the shared containers with the default configuration for the given image.
+     * @param dockerImageName docker image name
+     * @return the pool of the shared containers
+     */
+    public static OpenSearchContainerPool<OpenSearchContainer<?>> containers(final DockerImageName dockerImageName) {
+        return containers(dockerImageName.asCanonicalNameString(), () -> new OpenSearchContainer<>(dockerImageName));
+    }
+
+    /**
+     * Return the pool of the shared containers, the containers with the same key are considered equivalent
+     * (the factory is used only once, when the pool is created).
+     * @param key the key identifying the configuration of the containers
+     * @param factory the factory of the containers (not started)
+     * @return the pool of the shared containers
+     */
+    public static OpenSearchContainerPool<OpenSearchContainer<?>> containers(
+            final String key, final Supplier<OpenSearchContainer<?>> factory) {
+        return containers(key, factory, 1);
+    }
+
+    /**
+     * Return the pool of the given number of shared containers, the containers with the same key are
+     * considered equivalent (the factory and the size are used only once, when the pool is created).
+     * @param key the key identifying the configuration of the containers
+     * @param factory the factory of the containers (not started)
+     * @param size the maximum number of containers (started on demand)
+     * @return the pool of the shared containers
+     */
+    @SuppressWarnings("unchecked")
+    public static OpenSearchContainerPool<OpenSearchContainer<?>> containers(
+            final String key, final Supplier<OpenSearchContainer<?>> factory, int size) {
+        return (OpenSearchContainerPool<OpenSearchContainer<?>>) POOLS.computeIfAbsent(
+                "container:" + key,
+                k -> new OpenSearchContainerPool<OpenSearchContainer<?>>(
+                        factory, OpenSearchContainer::getHttpClient, size, () -> true));
+    }
+
+    /**
+     * Return the pool of the shared containers started by the given start scheduler, sized from the budget
+     * shared by all pools of the scheduler (unless the size is given): one more container is started only if
+     * the scheduler admits it right away, the started ones are shared otherwise. The containers with the same
+     * key are considered equivalent (the factory and the size are used only once, when the pool is created).
+     * @param key the key identifying the configuration of the containers
+     * @param factory the factory of the containers (not started), the containers are started by the scheduler
+     * @param size the maximum number of containers (or 0 to size the pool from the budget of the scheduler)
+     * @param startScheduler the start scheduler of the containers
+     * @param resourceProfile the resource profile of the containers
+     * @return the pool of the shared containers
+     */
+    @SuppressWarnings("unchecked")
+    public static OpenSearchContainerPool<OpenSearchContainer<?>> containers(
+            final String key,
+            final Supplier<OpenSearchContainer<?>> factory,
+            int size,
+            final OpenSearchStartScheduler startScheduler,
+            final OpenSearchResourceProfile resourceProfile) {
+        return (OpenSearchContainerPool<OpenSearchContainer<?>>) POOLS.computeIfAbsent(
+                "container:" + key,
+                k -> new OpenSearchContainerPool<OpenSearchContainer<?>>(
+                        () -> factory.get()
+                                .withResourceProfile(resourceProfile)
+                                .withStartScheduler(startScheduler),
+                        OpenSearchContainer::getHttpClient,
+                        startScheduler.claimPoolCapacity(resourceProfile, size),
+                        () -> startScheduler.isAdmissible(resourceProfile)));
+    }
+
+    /**
+     * Return the pool of the shared clusters, the clusters with the same key are considered equivalent
+     * (the factory is used only once, when the pool is created).
+     * @param key the key identifying the configuration of the clusters
+     * @param factory the factory of the clusters (not started)
+     * @return the pool of the shared clusters
+     */
+    @SuppressWarnings("unchecked")
+    public static OpenSearchContainerPool<OpenSearchCluster> clusters(
+            final String key, final Supplier<OpenSearchCluster> factory) {
+        return (OpenSearchContainerPool<OpenSearchCluster>) POOLS.computeIfAbsent(
+                "cluster:" + key,
+                k -> new OpenSearchContainerPool<OpenSearchCluster>(
+                        factory, OpenSearchCluster::getHttpClient, 1, () -> true));
+    }
+
+    /**
+     * Lease the shared container (or cluster) of the least loaded member of the pool, starting it if it has
+     * not been started yet. The lease should be closed once the test is done with it.
+     * @return new lease with the unique prefix
+     */
+    public OpenSearchLease<T> lease() {
+        final Member<T> member = leastLoaded();
+        final T target;
+        try {
+            target = member.get(factory);
+        } catch (final RuntimeException ex) {
+            member.activeLeases.decrementAndGet();
+            throw ex;
+        }
+
+        // The prefix has to be a valid (lowercase) index name start
+        final String prefix = "t" + Base58.randomString(8).toLowerCase(Locale.ROOT) + "-";
+        return new OpenSearchLease<>(target, prefix, httpClient.apply(target), member.activeLeases::decrementAndGet);
+    }
+
+    /**
+     * Return the number of leases which have not been closed yet
+     * @return the number of active leases
+     */
+    public int getActiveLeases() {
+        return members.stream().mapToInt(member -> member.activeLeases.get()).sum();
+    }
+
+    /**
+     * Return the maximum number of containers (or clusters) of this pool
+     * @return the maximum number of containers (or clusters)
+     */
+    public int getSize() {
+        return members.size();
+    }
+
+    /**
+     * Return the number of containers (or clusters) of this pool started so far
+     * @return the number of containers (or clusters) started so far
+     */
+    public int getStarted() {
+        return (int) members.stream().filter(member -> member.target != null).count();
+    }
+
+    // The lease is accounted for upfront, so the concurrent leases are spread over the members
+    private synchronized Member<T> leastLoaded() {
+        Member<T> leastLoaded = leastLoaded(false);
+        if (leastLoaded.target == null && !admissible.getAsBoolean()) {
+            // The member could not be started right away, the least loaded started one (if any) is shared instead
+            final Member<T> started = leastLoaded(true);
+            if (started.target != null) {
+                leastLoaded = started;
+            }
+        }
+
+        leastLoaded.activeLeases.incrementAndGet();
+        return leastLoaded;
+    }
+
+    private Member<T> leastLoaded(boolean startedOnly) {
+        Member<T> leastLoaded = members.get(0);
+        for (final Member<T> member : members) {
+            if (startedOnly && member.target == null) {
+                continue;
+            }
+
+            final int load = member.activeLeases.get();
+            final int least = leastLoaded.activeLeases.get();
+            if ((startedOnly && leastLoaded.target == null)
+                    || load < least
+                    || (load == least && member.target != null && leastLoaded.target == null)) {
+                leastLoaded = member;
+            }
+        }
+        return leastLoaded;
+    }
+
+    // The member of the pool: the shared container (or cluster), started on the first lease
+    private static final class Member<T extends Startable> {
+        private final AtomicInteger activeLeases = new AtomicInteger();
+        private volatile T target;
+
+        private T get(final Supplier<T> factory) {
+            T started = target;
+            if (started == null) {
+                synchronized (this) {
+                    started = target;
+                    if (started == null) {
+                        started = factory.get();
+                        started.start();
+
+                        final T stoppable = started;
+                        Runtime.getRuntime()
+                                .addShutdownHook(new Thread(stoppable::stop, "opensearch-pool-shutdown"));
+                        target = started;
+                    }
+                }
+            }
+            return started;
+        }
+    }
+}
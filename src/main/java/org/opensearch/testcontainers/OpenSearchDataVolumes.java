@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectVolumeResponse;
+import com.github.dockerjava.api.exception.ConflictException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.testcontainers.DockerClientFactory;
+
+/**
+ * Helpers to manage the persistent (named) data volumes which outlive the containers. Docker does not track
+ * when the volume was used last and how large it is, so the usage is recorded in the registry file shared
+ * by all JVMs on the host (~/.testcontainers/opensearch-data-volumes.properties).
+ */
+final class OpenSearchDataVolumes {
+    // The label every persistent data volume is marked with
+    static final String LABEL = "org.opensearch.testcontainers.data-volume";
+
+    private static final Path REGISTRY =
+            Path.of(System.getProperty("user.home"), ".testcontainers", "opensearch-data-volumes.properties");
+
+    private OpenSearchDataVolumes() {}
+
+    /**
+     * Return the name of the persistent data volume
+     * @param version OpenSearch version
+     * @param clusterName cluster name
+     * @param fixtureHash the hash of the fixtures (data) stored in the volume
+     * @return the name of the persistent data volume
+     */
+    static String name(final String version, final String clusterName, final String fixtureHash) {
+        return "opensearch-data-" + OpenSearchDerivedImages.hash(version, clusterName, fixtureHash);
+    }
+
+    /**
+     * Create the persistent data volume unless it exists already and mark it as used
+     * @param volume volume name
+     * @return "true" if the volume existed already, "false" if it has been created
+     */
+    static boolean acquire(final String volume) {
+        final DockerClient dockerClient = DockerClientFactory.instance().client();
+
+        final boolean exists = exists(dockerClient, volume);
+        if (!exists) {
+            dockerClient
+                    .createVolumeCmd()
+                    .withName(volume)
+                    .withLabels(Map.of(LABEL, "true"))
+                    .exec();
+        }
+
+        update(registry -> {
+            final Usage usage = exists ? Usage.parse(registry.getProperty(volume)) : new Usage();
+            usage.lastUsed = System.currentTimeMillis();
+            registry.setProperty(volume, usage.toString());
+        });
+
+        return exists;
+    }
+
+    /**
+     * Record the size and the indices of the persistent data volume once the container is stopping
+     * @param volume volume name
+     * @param size the size of the data (in bytes)
+     * @param indices the indices stored in the volume
+     */
+    static void release(final String volume, long size, final Set<String> indices) {
+        update(registry -> {
+            final Usage usage = new Usage();
+            usage.lastUsed = System.currentTimeMillis();
+            usage.size = size;
+            usage.indices.addAll(indices);
+            registry.setProperty(volume, usage.toString());
+        });
+    }
+
+    /**
+     * Return the indices recorded when the persistent data volume was last released
+     * @param volume volume name
+     * @return the indices recorded (could be empty)
+     */
+    static Set<String> indices(final String volume) {
+        final Set<String> indices = new HashSet<>();
+        update(registry -> indices.addAll(Usage.parse(registry.getProperty(volume)).indices));
+        return indices;
+    }
+
+    /**
+     * Remove the least recently used persistent data volumes which do not fit into the eviction policy, making
+     * the room for one more volume. The volumes which are in use are never removed.
+     * @param policy eviction policy
+     * @param retained the volume which should be retained (about to be used)
+     */
+    static void evict(final OpenSearchVolumeEvictionPolicy policy, final String retained) {
+        final DockerClient dockerClient = DockerClientFactory.instance().client();
+        final List<InspectVolumeResponse> volumes = dockerClient
+                .listVolumesCmd()
+                .withFilter("label", List.of(LABEL))
+                .exec()
+                .getVolumes();
+
+        update(registry -> {
+            final Set<String> present = new HashSet<>();
+            final List<String> candidates = new ArrayList<>();
+            long totalSize = Usage.parse(registry.getProperty(retained)).size;
+            if (volumes != null) {
+                for (final InspectVolumeResponse volume : volumes) {
+                    present.add(volume.getName());
+                    if (!volume.getName().equals(retained)) {
+                        candidates.add(volume.getName());
+                        totalSize += Usage.parse(registry.getProperty(volume.getName())).size;
+                    }
+                }
+            }
+
+            // Forget about the volumes which have been removed by other means
+            registry.stringPropertyNames().stream()
+                    .filter(volume -> !present.contains(volume) && !volume.equals(retained))
+                    .forEach(registry::remove);
+
+            // The volumes never recorded in the registry are considered the least recently used ones
+            candidates.sort(Comparator.comparingLong(volume -> Usage.parse(registry.getProperty(volume)).lastUsed));
+
+            int numberOfVolumes = candidates.size() + 1;
+            for (final String volume : candidates) {
+                if (numberOfVolumes <= policy.getMaxVolumes() && totalSize <= policy.getMaxTotalSize()) {
+                    break;
+                }
+
+                try {
+                    dockerClient.removeVolumeCmd(volume).exec();
+                } catch (final ConflictException ex) {
+                    continue; /* in use by another container */
+                } catch (final NotFoundException ex) {
+                    /* already removed */
+                }
+
+                numberOfVolumes -= 1;
+                totalSize -= Usage.parse(registry.getProperty(volume)).size;
+                registry.remove(volume);
+            }
+        });
+    }
+
+    private static boolean exists(final DockerClient dockerClient, final String volume) {
+        try {
+            dockerClient.inspectVolumeCmd(volume).exec();
+            return true;
+        } catch (final NotFoundException ex) {
+            return false;
+        }
+    }
+
+    // Reads, updates and writes the registry back while holding the lock (so the concurrent JVMs do not
+    // overwrite each other changes)
+    private static synchronized void update(final Consumer<Properties> updater) {
+        try {
+            Files.createDirectories(REGISTRY.getParent());
+            try (FileChannel channel = FileChannel.open(
+                    REGISTRY, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // The lock is released once the channel is closed
+                channel.lock();
+
+                final ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+                while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                    /* read the whole registry */
+                }
+
+                final Properties registry = new Properties();
+                registry.load(new ByteArrayInputStream(buffer.array()));
+                updater.accept(registry);
+
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                registry.store(out, "OpenSearch Testcontainers persistent data volumes: lastUsed;size;indices");
+                channel.truncate(0);
+                channel.write(ByteBuffer.wrap(out.toByteArray()), 0);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to update the data volumes registry " + REGISTRY, ex);
+        }
+    }
+
+    // The usage of the persistent data volume, stored as "lastUsed;size;index1,index2,..."
+    private static final class Usage {
+        private long lastUsed;
+        private long size;
+        private final Set<String> indices = new HashSet<>();
+
+        static Usage parse(final String value) {
+            final Usage usage = new Usage();
+            if (value == null) {
+                return usage;
+            }
+
+            final String[] parts = value.split(";", 3);
+            try {
+                usage.lastUsed = Long.parseLong(parts[0]);
+                usage.size = parts.length > 1 ? Long.parseLong(parts[1]) : 0;
+            } catch (final NumberFormatException ex) {
+                return new Usage(); /* malformed entry */
+            }
+
+            if (parts.length > 2 && !parts[2].isEmpty()) {
+                usage.indices.addAll(Arrays.asList(parts[2].split(",")));
+            }
+
+            return usage;
+        }
+
+        @Override
+        public String toString() {
+            return lastUsed + ";" + size + ";" + String.join(",", indices);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import com.github.dockerjava.api.exception.NotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.RemoteDockerImage;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Helpers to manage the images derived from the official OpenSearch images. The derived images are tagged
+ * by the hash of their inputs (the base image ID included) and kept locally (not deleted on exit), so they are
+ * built only once.
+ */
+final class OpenSearchDerivedImages {
+    // The repository of locally built derived images
+    static final String REPOSITORY = "opensearch-testcontainers";
+
+    private OpenSearchDerivedImages() {}
+
+    /**
+     * Compute the hash of the inputs
+     * @param inputs the inputs
+     * @return the hash of the inputs (hex encoded, 16 characters)
+     */
+    static String hash(final byte[]... inputs) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (final byte[] input : inputs) {
+                digest.update(input);
+                digest.update((byte) 0); /* separator */
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not supported", ex);
+        }
+    }
+
+    /**
+     * Compute the hash of the inputs
+     * @param inputs the inputs
+     * @return the hash of the inputs (hex encoded, 16 characters)
+     */
+    static String hash(final String... inputs) {
+        final byte[][] bytes = new byte[inputs.length][];
+        for (int i = 0; i < inputs.length; ++i) {
+            bytes[i] = inputs[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return hash(bytes);
+    }
+
+    /**
+     * Compute the hash of the file content
+     * @param file the file
+     * @return the hash of the file content (hex encoded, 16 characters)
+     */
+    static String hash(final Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to read " + file, ex);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not supported", ex);
+        }
+    }
+
+    /**
+     * Resolve the base image (pull it if it is not present locally) and return its ID, so the derived images
+     * are keyed by the content of the base image rather than its name (like "latest" or re-pushed tags)
+     * @param image base image name
+     * @return the base image ID
+     */
+    static String imageId(final DockerImageName image) {
+        final String name = new RemoteDockerImage(image).get();
+        return DockerClientFactory.instance().client().inspectImageCmd(name).exec().getId();
+    }
+
+    /**
+     * Check if the image is present locally
+     * @param image image name
+     * @return "true" if the image is present locally, "false" otherwise
+     */
+    static boolean exists(final String image) {
+        try {
+            DockerClientFactory.instance().client().inspectImageCmd(image).exec();
+            return true;
+        } catch (final NotFoundException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Return the derived image, building it only if it is not present locally
+     * @param image derived image name (including tag)
+     * @param dockerfile the Dockerfile of the derived image
+     * @return the derived image name
+     */
+    static String resolve(final String image, final Supplier<ImageFromDockerfile> dockerfile) {
+        if (!exists(image)) {
+            dockerfile.get().get();
+        }
+        return image;
+    }
+
+    /**
+     * Create the Dockerfile based image builder which keeps the image once built
+     * @param image derived image name (including tag)
+     * @return the Dockerfile based image builder
+     */
+    static ImageFromDockerfile dockerfile(final String image) {
+        return new ImageFromDockerfile(image, false);
+    }
+}
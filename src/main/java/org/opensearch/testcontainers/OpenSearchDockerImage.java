@@ -5,6 +5,10 @@
 
 package org.opensearch.testcontainers;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import org.testcontainers.utility.DockerImageName;
 
 /**
@@ -18,4 +22,45 @@ public final class OpenSearchDockerImage {
     public static DockerImageName ofTag(String tag) {
         return DockerImageName.parse("opensearchproject/opensearch:" + tag);
     }
+
+    /**
+     * Return the OpenSearch version of the image (from its tag), see please {@link OpenSearchVersion}.
+     * @param dockerImageName the OpenSearch image, like OpenSearchDockerImage.ofVersion("2.19.1")
+     * @return the version or empty if the image tag is not a version (like the digest or custom tag)
+     */
+    public static Optional<OpenSearchVersion> versionOf(DockerImageName dockerImageName) {
+        return OpenSearchVersion.of(dockerImageName);
+    }
+
+    /**
+     * Create the "warm" image (the image with fixtures baked in) on top of the given image, see please
+     * {@link OpenSearchWarmImage}.
+     * @param baseImageName base image, like OpenSearchDockerImage.ofVersion("2.19.1")
+     * @return the warm image to configure
+     */
+    public static OpenSearchWarmImage warm(DockerImageName baseImageName) {
+        return new OpenSearchWarmImage(baseImageName);
+    }
+
+    /**
+     * Prefetch the official images of the given versions concurrently, see please
+     * {@link OpenSearchImagePrefetch}.
+     * @param versions the versions, like "2.19.1" or "3.1.0"
+     * @return the prefetch to configure
+     */
+    public static OpenSearchImagePrefetch prefetch(String... versions) {
+        final List<DockerImageName> dockerImageNames = Arrays.stream(versions)
+                .map(OpenSearchDockerImage::ofVersion)
+                .collect(Collectors.toList());
+        return new OpenSearchImagePrefetch(dockerImageNames);
+    }
+
+    /**
+     * Prefetch the given images concurrently, see please {@link OpenSearchImagePrefetch}.
+     * @param dockerImageNames the images, like OpenSearchDockerImage.ofVersion("2.19.1")
+     * @return the prefetch to configure
+     */
+    public static OpenSearchImagePrefetch prefetch(DockerImageName... dockerImageNames) {
+        return new OpenSearchImagePrefetch(Arrays.asList(dockerImageNames));
+    }
 }
@@ -0,0 +1,390 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * Minimalistic HTTP(s) client to talk to OpenSearch container, built on top of JDK's {@link HttpClient} (so
+ * no additional dependencies are needed). The client keeps the connections alive and reuses them, the one
+ * preconfigured for the container is available through {@link OpenSearchContainer#getHttpClient()}. If
+ * security plugin is enabled, the basic authentication header is sent preemptively and the self-signed
+ * certificates are trusted:
+ *
+ *      final OpenSearchHttpClient client = container.getHttpClient();
+ *      client.put("/books", "{\"settings\": {\"number_of_shards\": 1}}").expectSuccess();
+ *      final Map&lt;String, Object&gt; health = client.get("/_cluster/health").expectSuccess().getJsonObject();
+ */
+public final class OpenSearchHttpClient {
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client;
+    private final String httpHostAddress;
+    private final String authorization;
+
+    OpenSearchHttpClient(final OpenSearchContainer<?> container) {
+        this(
+                container.getHttpHostAddress(),
+                container.isSecurityEnabled() ? container.getSslContext() : null,
+                container.getUsername(),
+                container.getPassword());
+    }
+
+    OpenSearchHttpClient(
+            final String httpHostAddress, final boolean secure, final String username, final String password) {
+        this(httpHostAddress, secure ? trustAllSslContext() : null, username, password);
+    }
+
+    OpenSearchHttpClient(
+            final String httpHostAddress, final SSLContext sslContext, final String username, final String password) {
+        final HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(DEFAULT_TIMEOUT);
+        if (sslContext != null) {
+            builder.sslContext(sslContext);
+            this.authorization = "Basic "
+                    + Base64.getEncoder()
+                            .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        } else {
+            this.authorization = null;
+        }
+
+        this.client = builder.build();
+        this.httpHostAddress = httpHostAddress;
+    }
+
+    /**
+     * Execute the request against OpenSearch container
+     * @param method HTTP method
+     * @param path request path (including query string, if any)
+     * @param body request body (JSON), could be {@code null}
+     * @param timeout request timeout
+     * @return the response
+     * @throws UncheckedIOException if the request could not be sent or the response could not be received
+     */
+    public Response execute(final String method, final String path, final String body, final Duration timeout) {
+        final HttpRequest.Builder builder = newRequest(path)
+                .timeout(timeout)
+                .method(
+                        method,
+                        body == null
+                                ? HttpRequest.BodyPublishers.noBody()
+                                : HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+
+        if (body != null) {
+            builder.header("Content-Type", "application/json");
+        }
+
+        try {
+            final HttpResponse<String> response =
+                    client.send(builder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            return new Response(method + " " + path, response.statusCode(), response.body());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the response", ex);
+        }
+    }
+
+    /**
+     * Execute the request against OpenSearch container (with the default timeout of 10 seconds)
+     * @param method HTTP method
+     * @param path request path (including query string, if any)
+     * @param body request body (JSON), could be {@code null}
+     * @return the response
+     * @throws UncheckedIOException if the request could not be sent or the response could not be received
+     */
+    public Response execute(final String method, final String path, final String body) {
+        return execute(method, path, body, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Execute GET request
+     * @param path request path (including query string, if any)
+     * @return the response
+     */
+    public Response get(final String path) {
+        return execute("GET", path, null);
+    }
+
+    /**
+     * Execute HEAD request
+     * @param path request path (including query string, if any)
+     * @return the response
+     */
+    public Response head(final String path) {
+        return execute("HEAD", path, null);
+    }
+
+    /**
+     * Execute DELETE request
+     * @param path request path (including query string, if any)
+     * @return the response
+     */
+    public Response delete(final String path) {
+        return execute("DELETE", path, null);
+    }
+
+    /**
+     * Execute POST request with JSON body
+     * @param path request path (including query string, if any)
+     * @param json request body (JSON), could be {@code null}
+     * @return the response
+     */
+    public Response post(final String path, final String json) {
+        return execute("POST", path, json);
+    }
+
+    /**
+     * Execute PUT request with JSON body
+     * @param path request path (including query string, if any)
+     * @param json request body (JSON), could be {@code null}
+     * @return the response
+     */
+    public Response put(final String path, final String json) {
+        return execute("PUT", path, json);
+    }
+
+    /**
+     * Create the request builder for the path, with the authentication header already set (if security
+     * plugin is enabled), to be sent with {@link #getHttpClient()}.
+     * @param path request path (including query string, if any)
+     * @return new request builder
+     */
+    public HttpRequest.Builder newRequest(final String path) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(httpHostAddress + path));
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return builder;
+    }
+
+    /**
+     * Return the underlying JDK's {@link HttpClient} (with TLS already configured, if security plugin is
+     * enabled), see please {@link #newRequest(String)}.
+     * @return the underlying JDK's {@link HttpClient}
+     */
+    public HttpClient getHttpClient() {
+        return client;
+    }
+
+    /**
+     * Return HTTP(s) host and port this client talks to
+     * @return HTTP(s) host and port (in a form of "host:port")
+     */
+    public String getHttpHostAddress() {
+        return httpHostAddress;
+    }
+
+    /**
+     * Create the SSL context which trusts any certificate
+     * @return the SSL context
+     */
+    static SSLContext trustAllSslContext() {
+        try {
+            final SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[] {new TrustAllTrustManager()}, null);
+            return sslContext;
+        } catch (final GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to create SSL context", ex);
+        }
+    }
+
+    /**
+     * Create the SSL context which trusts the certificates from the truststore only (the host name is not verified
+     * since the certificates are not issued for the host the container is running on)
+     * @param trustStore the truststore
+     * @return the SSL context
+     * @throws GeneralSecurityException if the SSL context could not be created
+     */
+    static SSLContext trustStoreSslContext(final KeyStore trustStore) throws GeneralSecurityException {
+        final TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        factory.init(trustStore);
+
+        for (final TrustManager trustManager : factory.getTrustManagers()) {
+            if (trustManager instanceof X509TrustManager) {
+                final SSLContext sslContext = SSLContext.getInstance("TLS");
+                sslContext.init(
+                        null, new TrustManager[] {new TrustStoreTrustManager((X509TrustManager) trustManager)}, null);
+                return sslContext;
+            }
+        }
+
+        throw new IllegalStateException("No X509TrustManager available for the truststore");
+    }
+
+    /**
+     * The HTTP response: status code and body
+     */
+    public static final class Response {
+        private final String request;
+        private final int statusCode;
+        private final String body;
+
+        Response(final String request, int statusCode, final String body) {
+            this.request = request;
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        /**
+         * Return HTTP status code
+         * @return HTTP status code
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /**
+         * Return the body
+         * @return the body (empty if there is none)
+         */
+        public String getBody() {
+            return body == null ? "" : body;
+        }
+
+        /**
+         * Check if the status code is successful (2xx) or not
+         * @return "true" if the status code is successful (2xx), "false" otherwise
+         */
+        public boolean isSuccessful() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+
+        /**
+         * Parse the body as JSON document
+         * @return parsed document: {@link Map} for objects, {@link java.util.List} for arrays, {@link String},
+         *      {@link Long} or {@link Double} for numbers, {@link Boolean} or {@code null}
+         * @throws IllegalArgumentException if the body is not a valid JSON document
+         */
+        public Object getJson() {
+            return Json.parse(getBody());
+        }
+
+        /**
+         * Parse the body as JSON object
+         * @return parsed object
+         * @throws IllegalArgumentException if the body is not a valid JSON object
+         */
+        public Map<String, Object> getJsonObject() {
+            return Json.parseObject(getBody());
+        }
+
+        /**
+         * Ensure the status code is successful (2xx)
+         * @return this response
+         * @throws OpenSearchResponseException if the status code is not successful
+         */
+        public Response expectSuccess() {
+            if (!isSuccessful()) {
+                throw new OpenSearchResponseException("Unexpected response to " + request, statusCode, getBody());
+            }
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "Response{request=" + request + ", statusCode=" + statusCode + "}";
+        }
+    }
+
+    // Verifies the certificate chain against the truststore but skips the host name verification (which the
+    // X509ExtendedTrustManager variants would do otherwise).
+    private static final class TrustStoreTrustManager extends X509ExtendedTrustManager {
+        private final X509TrustManager delegate;
+
+        TrustStoreTrustManager(final X509TrustManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+                throws CertificateException {
+            delegate.checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+                throws CertificateException {
+            delegate.checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+                throws CertificateException {
+            delegate.checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+                throws CertificateException {
+            delegate.checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+            delegate.checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+            delegate.checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return delegate.getAcceptedIssuers();
+        }
+    }
+
+    // By default, OpenSearch uses self-signed certificates for HTTPS (issued for other host names), the
+    // X509ExtendedTrustManager variant is required to skip the host name verification as well.
+    private static final class TrustAllTrustManager extends X509ExtendedTrustManager {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {}
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {}
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {}
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {}
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {}
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {}
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
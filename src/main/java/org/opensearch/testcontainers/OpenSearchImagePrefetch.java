@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import com.github.dockerjava.api.DockerClient;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.RemoteDockerImage;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * The prefetch of the OpenSearch images (like the version matrix), resolved concurrently (bounded by the
+ * parallelism) ahead of the containers start. The images are looked up locally first, then in the local
+ * image cache (the directory of the tarballs produced by {@code docker save}, so the hosts without the
+ * registry access could start the containers) and pulled from the registry at last:
+ *
+ *      OpenSearchDockerImage.prefetch("1.3.20", "2.19.1", "3.1.0")
+ *          .withCacheDirectory(Path.of("/var/cache/opensearch-images"))
+ *          .resolve()
+ *          .forEach(image -&gt; LOG.info("{}", image));
+ *
+ * The tarball of the image is named after its repository and tag, like
+ * "opensearchproject_opensearch_2.19.1.tar" (plain or gzipped), the images missing in the cache are saved
+ * there once resolved.
+ */
+public final class OpenSearchImagePrefetch {
+    private final List<DockerImageName> dockerImageNames;
+    private int parallelism = 4;
+    private Path cacheDirectory;
+
+    OpenSearchImagePrefetch(final List<DockerImageName> dockerImageNames) {
+        this.dockerImageNames = dockerImageNames;
+    }
+
+    /**
+     * Set the maximum number of images resolved concurrently (4 by default)
+     * @param parallelism the maximum number of images resolved concurrently
+     * @return this prefetch instance
+     */
+    public OpenSearchImagePrefetch withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism should be positive but got " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Use the local image cache: the directory of the image tarballs (produced by {@code docker save}), the
+     * images are loaded from there instead of being pulled from the registry.
+     * @param cacheDirectory the directory of the image tarballs (created if it does not exist)
+     * @return this prefetch instance
+     */
+    public OpenSearchImagePrefetch withCacheDirectory(final Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        return this;
+    }
+
+    /**
+     * Resolve all images concurrently, waiting for all of them to be resolved.
+     * @return the resolved images (in the order they were given)
+     * @throws RuntimeException the first failure (the other ones are suppressed), once all images are done
+     */
+    public List<OpenSearchPrefetchedImage> resolve() {
+        if (cacheDirectory != null) {
+            try {
+                Files.createDirectories(cacheDirectory);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException("Unable to create the image cache directory " + cacheDirectory, ex);
+            }
+        }
+
+        final AtomicInteger threads = new AtomicInteger();
+        final ExecutorService executor =
+                Executors.newFixedThreadPool(Math.min(parallelism, Math.max(dockerImageNames.size(), 1)), r -> {
+                    final Thread thread = new Thread(r, "opensearch-image-prefetch-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        try {
+            final List<Future<OpenSearchPrefetchedImage>> futures = new ArrayList<>();
+            for (final DockerImageName dockerImageName : dockerImageNames) {
+                futures.add(executor.submit(() -> prefetch(dockerImageName)));
+            }
+
+            final List<OpenSearchPrefetchedImage> images = new ArrayList<>();
+            RuntimeException failure = null;
+            for (final Future<OpenSearchPrefetchedImage> future : futures) {
+                try {
+                    images.add(future.get());
+                } catch (final ExecutionException ex) {
+                    final RuntimeException cause = (ex.getCause() instanceof RuntimeException)
+                            ? (RuntimeException) ex.getCause()
+                            : new IllegalStateException("Unable to prefetch the image", ex.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+
+            if (failure != null) {
+                throw failure;
+            }
+            return images;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while prefetching the images", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private OpenSearchPrefetchedImage prefetch(final DockerImageName dockerImageName) throws IOException {
+        final long startedAt = System.nanoTime();
+        final String image = dockerImageName.asCanonicalNameString();
+        final Path tarball = (cacheDirectory != null) ? tarball(dockerImageName) : null;
+
+        final OpenSearchPrefetchedImage.Source source;
+        final long bytes;
+        if (OpenSearchDerivedImages.exists(image)) {
+            source = OpenSearchPrefetchedImage.Source.LOCAL;
+            bytes = 0;
+        } else if (tarball != null && Files.isRegularFile(tarball)) {
+            try (InputStream in = Files.newInputStream(tarball)) {
+                DockerClientFactory.instance().client().loadImageCmd(in).exec();
+            }
+            if (!OpenSearchDerivedImages.exists(image)) {
+                throw new IllegalStateException("The tarball " + tarball + " does not contain the image " + image);
+            }
+            source = OpenSearchPrefetchedImage.Source.CACHE;
+            bytes = Files.size(tarball);
+        } else {
+            new RemoteDockerImage(dockerImageName).get();
+            final Long size = DockerClientFactory.instance()
+                    .client()
+                    .inspectImageCmd(image)
+                    .exec()
+                    .getSize();
+            source = OpenSearchPrefetchedImage.Source.REGISTRY;
+            bytes = (size != null) ? size : 0;
+        }
+
+        final Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        if (tarball != null && !Files.isRegularFile(tarball)) {
+            save(dockerImageName, tarball);
+        }
+        return new OpenSearchPrefetchedImage(dockerImageName, source, bytes, duration);
+    }
+
+    // The tarball is named after the image repository and tag, the gzipped one is picked if present
+    private Path tarball(final DockerImageName dockerImageName) {
+        final String name = (dockerImageName.getRepository() + "_" + dockerImageName.getVersionPart())
+                .replaceAll("[^A-Za-z0-9._-]", "_");
+        final Path gzipped = cacheDirectory.resolve(name + ".tar.gz");
+        return Files.isRegularFile(gzipped) ? gzipped : cacheDirectory.resolve(name + ".tar");
+    }
+
+    // The tarball is written to the temporary file first, so the partially written one is never picked up
+    private static void save(final DockerImageName dockerImageName, final Path tarball) throws IOException {
+        final DockerClient dockerClient = DockerClientFactory.instance().client();
+        final Path temporary = Files.createTempFile(tarball.getParent(), tarball.getFileName().toString(), ".tmp");
+        try {
+            try (InputStream in = dockerClient
+                    .saveImageCmd(dockerImageName.getUnversionedPart())
+                    .withTag(dockerImageName.getVersionPart())
+                    .exec()) {
+                Files.copy(in, temporary, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(temporary, tarball, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
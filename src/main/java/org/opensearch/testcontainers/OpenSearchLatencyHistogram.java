@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The latency histogram (in microseconds) with the fixed memory footprint and no allocations on record: the
+ * values are counted in the log-linear buckets (as HdrHistogram does) with 3 significant digits of precision,
+ * so the recorded value is never off by more than 0.1%. The recording is lock-free and thread-safe.
+ */
+public final class OpenSearchLatencyHistogram {
+    // The values below 2048 microseconds are counted exactly, the larger ones with 1024 sub-buckets per power of 2
+    private static final int SUB_BUCKET_BITS = 10;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS << 1;
+    // The largest value tracked is ~19 hours, the larger ones are capped
+    private static final int MAX_VALUE_BITS = 36;
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+    private final AtomicLongArray counts =
+            new AtomicLongArray(LINEAR_BUCKETS + (MAX_VALUE_BITS - SUB_BUCKET_BITS - 1) * SUB_BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    OpenSearchLatencyHistogram() {}
+
+    /**
+     * Record the latency
+     * @param nanos the latency in nanoseconds
+     */
+    void record(long nanos) {
+        final long micros = Math.min(Math.max(nanos / 1000, 0), MAX_VALUE);
+        counts.incrementAndGet(index(micros));
+        count.incrementAndGet();
+        sum.addAndGet(micros);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Return the number of the latencies recorded
+     * @return the number of the latencies recorded
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Return the latency at the given percentile, for example {@code getValueAtPercentile(99.9)}
+     * @param percentile the percentile (from 0 to 100)
+     * @return the latency at the given percentile (or zero if nothing has been recorded)
+     */
+    public Duration getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile should be in [0, 100] range but got: " + percentile);
+        }
+
+        final long total = count.get();
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        final long rank = Math.max((long) Math.ceil(percentile / 100 * total), 1);
+        long seen = 0;
+        for (int index = 0; index < counts.length(); ++index) {
+            seen += counts.get(index);
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(highestEquivalentValue(index), max.get()) * 1000);
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Return the median latency
+     * @return the median latency
+     */
+    public Duration getP50() {
+        return getValueAtPercentile(50);
+    }
+
+    /**
+     * Return the 99th percentile latency
+     * @return the 99th percentile latency
+     */
+    public Duration getP99() {
+        return getValueAtPercentile(99);
+    }
+
+    /**
+     * Return the 99.9th percentile latency
+     * @return the 99.9th percentile latency
+     */
+    public Duration getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Return the maximum latency recorded
+     * @return the maximum latency recorded
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(max.get() * 1000);
+    }
+
+    /**
+     * Return the mean latency
+     * @return the mean latency (or zero if nothing has been recorded)
+     */
+    public Duration getMean() {
+        final long total = count.get();
+        return total == 0 ? Duration.ZERO : Duration.ofNanos(sum.get() * 1000 / total);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "count=%d, p50=%.3fms, p99=%.3fms, p999=%.3fms, max=%.3fms",
+                getCount(), millis(getP50()), millis(getP99()), millis(getP999()), millis(getMax()));
+    }
+
+    static int index(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+
+        // The value is shifted so its top bit lands on the highest bit of the sub-bucket
+        final int shift = 64 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS - 1;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (micros >>> shift) - SUB_BUCKETS;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+
+        final int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        final long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static double millis(final Duration duration) {
+        return duration.toNanos() / 1_000_000d;
+    }
+}
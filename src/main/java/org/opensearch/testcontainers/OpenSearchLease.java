@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.testcontainers.lifecycle.Startable;
+
+/**
+ * The lease of the shared OpenSearch container (or cluster) handed out by {@link OpenSearchContainerPool}.
+ * All indices, aliases, index templates and ingest pipelines created by the test should be named with the
+ * lease prefix (see please {@link #prefixed(String)}), so they are isolated from the other leases and
+ * are cleaned up by {@link #reset()}.
+ *
+ * @param <T> the type of the pooled container (or cluster)
+ */
+public final class OpenSearchLease<T extends Startable> implements AutoCloseable {
+    private final T target;
+    private final String prefix;
+    private final OpenSearchHttpClient client;
+    private final Runnable release;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    OpenSearchLease(final T target, final String prefix, final OpenSearchHttpClient client, final Runnable release) {
+        this.target = target;
+        this.prefix = prefix;
+        this.client = client;
+        this.release = release;
+    }
+
+    /**
+     * Return the shared container (or cluster), it should not be stopped or reconfigured
+     * @return the shared container (or cluster)
+     */
+    public T getTarget() {
+        return target;
+    }
+
+    /**
+     * Return the HTTP(s) client of the shared container (or cluster)
+     * @return the HTTP(s) client of the shared container (or cluster)
+     */
+    public OpenSearchHttpClient getHttpClient() {
+        return client;
+    }
+
+    /**
+     * Return the unique prefix of this lease (lowercase, ends with "-")
+     * @return the unique prefix of this lease
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Return the name prefixed with the unique prefix of this lease
+     * @param name the name of the index, alias, index template or ingest pipeline
+     * @return the name prefixed with the unique prefix of this lease
+     */
+    public String prefixed(final String name) {
+        return prefix + name;
+    }
+
+    /**
+     * Delete all data streams, indices (and so their aliases), index templates (composable and legacy ones)
+     * and ingest pipelines named with the prefix of this lease, a handful of wildcard requests in total.
+     * @throws OpenSearchResponseException if any of the deletions has failed
+     */
+    public void reset() {
+        final String pattern = prefix + "*";
+        delete("/_data_stream/" + pattern);
+        delete("/" + pattern + "?expand_wildcards=all");
+        delete("/_index_template/" + pattern);
+        delete("/_template/" + pattern);
+        delete("/_ingest/pipeline/" + pattern);
+    }
+
+    /**
+     * Reset (see please {@link #reset()}) and return the shared container (or cluster) back to the pool.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            try {
+                reset();
+            } finally {
+                release.run();
+            }
+        }
+    }
+
+    private void delete(final String path) {
+        final OpenSearchHttpClient.Response response = client.execute("DELETE", path, null);
+        // Nothing matches the wildcard (or the feature is not supported by this version, like data streams)
+        if (!response.isSuccessful() && response.getStatusCode() != HTTP_NOT_FOUND) {
+            throw new OpenSearchResponseException(
+                    "Unable to delete " + path, response.getStatusCode(), response.getBody());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+
+/**
+ * The network conditions simulated by the proxy (see please {@link OpenSearchProxy}): the latency (with
+ * optional jitter) added to every chunk of data in each direction, the bandwidth cap (per connection and
+ * direction) and the probability of the connection being reset. The conditions are immutable, every
+ * {@code with*} method returns a new instance.
+ *
+ *      OpenSearchNetworkConditions.none().withLatency(Duration.ofMillis(50)).withJitter(Duration.ofMillis(10))
+ */
+public final class OpenSearchNetworkConditions {
+    private static final OpenSearchNetworkConditions NONE =
+            new OpenSearchNetworkConditions(Duration.ZERO, Duration.ZERO, 0, 0);
+
+    private final Duration latency;
+    private final Duration jitter;
+    private final long bandwidth;
+    private final double resetProbability;
+
+    private OpenSearchNetworkConditions(
+            final Duration latency, final Duration jitter, long bandwidth, double resetProbability) {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.bandwidth = bandwidth;
+        this.resetProbability = resetProbability;
+    }
+
+    /**
+     * No latency, no bandwidth cap and no connection resets
+     * @return the conditions of the ideal network
+     */
+    public static OpenSearchNetworkConditions none() {
+        return NONE;
+    }
+
+    /**
+     * Set the latency added to every chunk of data, in each direction (so the round trip is twice as long)
+     * @param latency the latency
+     * @return new conditions instance
+     */
+    public OpenSearchNetworkConditions withLatency(final Duration latency) {
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("The latency should not be negative but got " + latency);
+        }
+        return new OpenSearchNetworkConditions(latency, jitter, bandwidth, resetProbability);
+    }
+
+    /**
+     * Set the jitter: the random latency (up to the given one) added on top of the latency. The order of the
+     * data is preserved, so the jitter never reorders the chunks.
+     * @param jitter the maximum jitter
+     * @return new conditions instance
+     */
+    public OpenSearchNetworkConditions withJitter(final Duration jitter) {
+        if (jitter.isNegative()) {
+            throw new IllegalArgumentException("The jitter should not be negative but got " + jitter);
+        }
+        return new OpenSearchNetworkConditions(latency, jitter, bandwidth, resetProbability);
+    }
+
+    /**
+     * Set the bandwidth cap, per connection and direction
+     * @param bandwidth bytes per second, like 512k or 10m
+     * @return new conditions instance
+     */
+    public OpenSearchNetworkConditions withBandwidth(final String bandwidth) {
+        final long bytesPerSecond = OpenSearchResourceProfile.parseSize(bandwidth);
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("The bandwidth should be positive but got " + bandwidth);
+        }
+        return new OpenSearchNetworkConditions(latency, jitter, bytesPerSecond, resetProbability);
+    }
+
+    /**
+     * Set the probability of the connection being reset (per chunk of data received, in each direction)
+     * @param resetProbability the probability (from 0 to 1)
+     * @return new conditions instance
+     */
+    public OpenSearchNetworkConditions withResetProbability(double resetProbability) {
+        if (resetProbability < 0 || resetProbability > 1) {
+            throw new IllegalArgumentException(
+                    "The reset probability should be in [0, 1] range but got " + resetProbability);
+        }
+        return new OpenSearchNetworkConditions(latency, jitter, bandwidth, resetProbability);
+    }
+
+    /**
+     * Return the latency added to every chunk of data, in each direction
+     * @return the latency
+     */
+    public Duration getLatency() {
+        return latency;
+    }
+
+    /**
+     * Return the maximum jitter added on top of the latency
+     * @return the maximum jitter
+     */
+    public Duration getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Return the bandwidth cap, per connection and direction
+     * @return the bandwidth cap in bytes per second, 0 if not capped
+     */
+    public long getBandwidth() {
+        return bandwidth;
+    }
+
+    /**
+     * Return the probability of the connection being reset (per chunk of data received)
+     * @return the probability of the connection being reset
+     */
+    public double getResetProbability() {
+        return resetProbability;
+    }
+
+    @Override
+    public String toString() {
+        return "OpenSearchNetworkConditions{latency=" + latency + ", jitter=" + jitter + ", bandwidth=" + bandwidth
+                + ", resetProbability=" + resetProbability + "}";
+    }
+}
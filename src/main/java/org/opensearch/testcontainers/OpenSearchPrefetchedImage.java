@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * The image resolved by the prefetch (see please {@link OpenSearchImagePrefetch}): where it has been resolved
+ * from, the number of bytes transferred and the time it took.
+ */
+public final class OpenSearchPrefetchedImage {
+    /**
+     * Where the image has been resolved from
+     */
+    public enum Source {
+        /** The image was present locally already */
+        LOCAL,
+        /** The image has been loaded from the tarball of the local image cache */
+        CACHE,
+        /** The image has been pulled from the registry */
+        REGISTRY
+    }
+
+    private final DockerImageName dockerImageName;
+    private final Source source;
+    private final long bytes;
+    private final Duration duration;
+
+    OpenSearchPrefetchedImage(
+            final DockerImageName dockerImageName, final Source source, long bytes, final Duration duration) {
+        this.dockerImageName = dockerImageName;
+        this.source = source;
+        this.bytes = bytes;
+        this.duration = duration;
+    }
+
+    /**
+     * Return the image
+     * @return the image
+     */
+    public DockerImageName getDockerImageName() {
+        return dockerImageName;
+    }
+
+    /**
+     * Return where the image has been resolved from
+     * @return where the image has been resolved from
+     */
+    public Source getSource() {
+        return source;
+    }
+
+    /**
+     * Return the number of bytes transferred: the tarball size (loaded from the cache), the image size
+     * (pulled from the registry, uncompressed) or zero (present locally)
+     * @return the number of bytes transferred
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Return the time it took to resolve the image (saving it to the local image cache is not included)
+     * @return the time it took to resolve the image
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return "OpenSearchPrefetchedImage{image=" + dockerImageName.asCanonicalNameString() + ", source=" + source
+                + ", bytes=" + bytes + ", duration=" + duration + "}";
+    }
+}
@@ -0,0 +1,483 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The in-process (NIO, single thread) TCP proxy in front of the OpenSearch container HTTP(s) port, simulating
+ * the network conditions (see please {@link OpenSearchNetworkConditions}): the latency and jitter, the bandwidth
+ * cap and the connection resets. The conditions could be changed at any time, the connections established are
+ * affected immediately. The proxy is transparent for TLS.
+ *
+ *      final OpenSearchProxy proxy = container.getProxy();
+ *      proxy.setConditions(OpenSearchNetworkConditions.none().withLatency(Duration.ofMillis(50)));
+ *      RestClient.builder(HttpHost.create(proxy.getHttpHostAddress()))
+ */
+public final class OpenSearchProxy implements AutoCloseable {
+    private static final int CHUNK_SIZE = 16 * 1024;
+    // The reading is paused once that many bytes are delayed (per connection and direction)
+    private static final int MAX_PENDING = 1024 * 1024;
+
+    private final String scheme;
+    private final InetSocketAddress target;
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final Thread thread;
+    private final Set<Connection> connections = new HashSet<>();
+    private final AtomicLong resets = new AtomicLong();
+    private final AtomicLong connectionsAccepted = new AtomicLong();
+    private volatile OpenSearchNetworkConditions conditions = OpenSearchNetworkConditions.none();
+    private volatile boolean closed = false;
+    // The failure of the proxy itself (not of the single connection), the proxy is not usable anymore
+    private volatile Exception failure;
+
+    /**
+     * Start the proxy listening on the loopback interface (ephemeral port)
+     * @param scheme the scheme of the target ("http" or "https")
+     * @param target the target address
+     */
+    OpenSearchProxy(final String scheme, final InetSocketAddress target) {
+        this.scheme = scheme;
+        this.target = target;
+        try {
+            this.selector = Selector.open();
+            this.server = ServerSocketChannel.open();
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to start the proxy to " + target, ex);
+        }
+
+        this.thread = new Thread(this::run, "opensearch-proxy-" + target.getPort());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Change the network conditions, the connections established are affected immediately
+     * @param conditions the network conditions
+     */
+    public void setConditions(final OpenSearchNetworkConditions conditions) {
+        ensureRunning();
+        this.conditions = conditions;
+        selector.wakeup();
+    }
+
+    /**
+     * Return the network conditions currently simulated
+     * @return the network conditions
+     */
+    public OpenSearchNetworkConditions getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Reset (RST) all the connections currently established
+     */
+    public void resetConnections() {
+        resets.incrementAndGet();
+        selector.wakeup();
+    }
+
+    /**
+     * Return the number of the connections accepted by the proxy so far
+     * @return the number of the connections accepted
+     */
+    public long getConnectionsAccepted() {
+        return connectionsAccepted.get();
+    }
+
+    /**
+     * Return HTTP(s) host and port of the proxy, to be used instead of the container ones
+     * @return HTTP(s) host and port of the proxy
+     */
+    public String getHttpHostAddress() {
+        ensureRunning();
+        final InetAddress address = server.socket().getInetAddress();
+        return scheme + "://" + address.getHostAddress() + ":" + server.socket().getLocalPort();
+    }
+
+    /**
+     * Stop the proxy, closing all the connections
+     */
+    @Override
+    public void close() {
+        closed = true;
+        selector.wakeup();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void ensureRunning() {
+        final Exception current = failure;
+        if (current != null) {
+            throw new IllegalStateException("The proxy to " + target + " has failed", current);
+        }
+    }
+
+    private void run() {
+        long resetsSeen = resets.get();
+        try {
+            while (!closed) {
+                final long timeout = timeoutMillis(System.nanoTime());
+                if (timeout < 0) {
+                    selector.selectNow();
+                } else {
+                    selector.select(timeout);
+                }
+
+                if (resets.get() != resetsSeen) {
+                    resetsSeen = resets.get();
+                    for (final Connection connection : new ArrayList<>(connections)) {
+                        connection.reset();
+                    }
+                }
+
+                for (final SelectionKey key : selector.selectedKeys()) {
+                    if (!key.isValid()) {
+                        continue;
+                    } else if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        ((Connection) key.attachment()).handle(key);
+                    }
+                }
+                selector.selectedKeys().clear();
+
+                final long now = System.nanoTime();
+                for (final Connection connection : new ArrayList<>(connections)) {
+                    connection.flush(now);
+                }
+            }
+        } catch (final IOException | RuntimeException ex) {
+            // The selector (or the server socket) has failed, the failures of the connections are handled by
+            // the connections themselves (they are closed and the proxy keeps running)
+            failure = ex;
+        } finally {
+            for (final Connection connection : new ArrayList<>(connections)) {
+                connection.close();
+            }
+            closeQuietly(server);
+            closeQuietly(selector);
+        }
+    }
+
+    // The time to wait for the next chunk to be due: -1 if something is due already, 0 if nothing is pending
+    private long timeoutMillis(long now) {
+        long next = Long.MAX_VALUE;
+        for (final Connection connection : connections) {
+            next = Math.min(next, connection.upstream.nextDue(now));
+            next = Math.min(next, connection.downstream.nextDue(now));
+        }
+
+        if (next == Long.MAX_VALUE) {
+            return 0;
+        } else if (next - now <= 0) {
+            return -1;
+        }
+        return Math.max(TimeUnit.NANOSECONDS.toMillis(next - now), 1);
+    }
+
+    private void accept() throws IOException {
+        final SocketChannel client = server.accept();
+        if (client == null) {
+            return;
+        }
+
+        connectionsAccepted.incrementAndGet();
+        final SocketChannel backend;
+        try {
+            backend = SocketChannel.open();
+        } catch (final IOException ex) {
+            closeQuietly(client);
+            return;
+        }
+
+        final Connection connection = new Connection(client, backend);
+        connections.add(connection);
+        try {
+            client.configureBlocking(false);
+            backend.configureBlocking(false);
+            client.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            backend.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+            // The backend is connected asynchronously (the slow connect must not stall the other connections),
+            // the client is not read from until then
+            connection.clientKey = client.register(selector, 0, connection);
+            connection.backendKey = backend.register(selector, SelectionKey.OP_CONNECT, connection);
+            if (backend.connect(target)) {
+                connection.connect();
+            }
+        } catch (final IOException ex) {
+            connection.close();
+        }
+    }
+
+    private static void closeQuietly(final AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (final Exception ex) {
+            /* ignore */
+        }
+    }
+
+    private final class Connection {
+        private final SocketChannel client;
+        private final SocketChannel backend;
+        private final Direction upstream;
+        private final Direction downstream;
+        private SelectionKey clientKey;
+        private SelectionKey backendKey;
+        private boolean connected = false;
+
+        private Connection(final SocketChannel client, final SocketChannel backend) {
+            this.client = client;
+            this.backend = backend;
+            this.upstream = new Direction(this, true);
+            this.downstream = new Direction(this, false);
+        }
+
+        private void handle(final SelectionKey key) {
+            try {
+                final boolean isClient = key == clientKey;
+                if (key.isConnectable()) {
+                    connect();
+                    return;
+                }
+                if (key.isWritable()) {
+                    // The socket could accept more data, the delayed data are flushed right after
+                    interest(key, SelectionKey.OP_WRITE, false);
+                }
+                if (key.isValid() && key.isReadable()) {
+                    (isClient ? upstream : downstream).read(System.nanoTime());
+                }
+            } catch (final IOException ex) {
+                close();
+            }
+        }
+
+        private void connect() throws IOException {
+            if (backend.finishConnect()) {
+                connected = true;
+                interest(backendKey, SelectionKey.OP_CONNECT, false);
+                interest(backendKey, SelectionKey.OP_READ, true);
+                interest(clientKey, SelectionKey.OP_READ, true);
+            }
+        }
+
+        private void flush(long now) {
+            if (!connected) {
+                return;
+            }
+
+            try {
+                upstream.flush(now);
+                downstream.flush(now);
+                if (upstream.isClosed() && downstream.isClosed()) {
+                    close();
+                }
+            } catch (final IOException ex) {
+                close();
+            }
+        }
+
+        private void reset() {
+            for (final SocketChannel channel : List.of(client, backend)) {
+                try {
+                    // Closing the socket with zero linger time sends RST instead of FIN
+                    channel.setOption(StandardSocketOptions.SO_LINGER, 0);
+                } catch (final IOException ex) {
+                    /* ignore */
+                }
+            }
+            close();
+        }
+
+        private void close() {
+            connections.remove(this);
+            closeQuietly(client);
+            closeQuietly(backend);
+        }
+    }
+
+    // The data flowing in one direction: from the client to the backend (upstream) or back (downstream)
+    private final class Direction {
+        private final Connection connection;
+        private final boolean upstream;
+        private final Deque<Chunk> pending = new ArrayDeque<>();
+        private long pendingBytes;
+        private long lastDue;
+        private boolean eof = false;
+        private boolean shutdown = false;
+        // The bandwidth cap (token bucket): the bytes allowed to be written and when they were accounted
+        private double allowance = CHUNK_SIZE;
+        private long allowanceUpdated = System.nanoTime();
+
+        private Direction(final Connection connection, boolean upstream) {
+            this.connection = connection;
+            this.upstream = upstream;
+        }
+
+        private SocketChannel source() {
+            return upstream ? connection.client : connection.backend;
+        }
+
+        private SocketChannel sink() {
+            return upstream ? connection.backend : connection.client;
+        }
+
+        private SelectionKey sourceKey() {
+            return upstream ? connection.clientKey : connection.backendKey;
+        }
+
+        private SelectionKey sinkKey() {
+            return upstream ? connection.backendKey : connection.clientKey;
+        }
+
+        private void read(long now) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+            final int read = source().read(buffer);
+            if (read < 0) {
+                eof = true;
+                interest(sourceKey(), SelectionKey.OP_READ, false);
+                return;
+            } else if (read == 0) {
+                return;
+            }
+
+            final OpenSearchNetworkConditions conditions = OpenSearchProxy.this.conditions;
+            if (conditions.getResetProbability() > 0
+                    && ThreadLocalRandom.current().nextDouble() < conditions.getResetProbability()) {
+                connection.reset();
+                return;
+            }
+
+            long due = now + conditions.getLatency().toNanos();
+            if (!conditions.getJitter().isZero()) {
+                due += ThreadLocalRandom.current().nextLong(conditions.getJitter().toNanos() + 1);
+            }
+            // The chunks are never reordered, the jitter only delays the following ones
+            if (!pending.isEmpty() && due - lastDue < 0) {
+                due = lastDue;
+            }
+            lastDue = due;
+
+            buffer.flip();
+            pending.add(new Chunk(buffer, due));
+            pendingBytes += read;
+            if (pendingBytes >= MAX_PENDING) {
+                interest(sourceKey(), SelectionKey.OP_READ, false);
+            }
+        }
+
+        private void flush(long now) throws IOException {
+            final long bandwidth = conditions.getBandwidth();
+            if (bandwidth > 0) {
+                allowance = Math.min(
+                        allowance + (now - allowanceUpdated) * bandwidth / 1_000_000_000d,
+                        Math.max(CHUNK_SIZE, bandwidth / 10d));
+            }
+            allowanceUpdated = now;
+
+            while (!pending.isEmpty() && pending.peek().due - now <= 0) {
+                final ByteBuffer buffer = pending.peek().data;
+                final int limit = buffer.limit();
+                if (bandwidth > 0) {
+                    if (allowance < 1) {
+                        return;
+                    }
+                    buffer.limit(buffer.position() + (int) Math.min(buffer.remaining(), (long) allowance));
+                }
+
+                final int written;
+                try {
+                    written = sink().write(buffer);
+                } finally {
+                    buffer.limit(limit);
+                }
+
+                pendingBytes -= written;
+                if (bandwidth > 0) {
+                    allowance -= written;
+                }
+                if (buffer.hasRemaining()) {
+                    if (bandwidth <= 0 || allowance >= 1) {
+                        // The socket buffer is full, wait for it to be writable again
+                        interest(sinkKey(), SelectionKey.OP_WRITE, true);
+                    }
+                    break;
+                }
+                pending.poll();
+            }
+
+            if (!eof && pendingBytes < MAX_PENDING) {
+                interest(sourceKey(), SelectionKey.OP_READ, true);
+            }
+            if (eof && pending.isEmpty() && !shutdown) {
+                shutdown = true;
+                sink().shutdownOutput();
+            }
+        }
+
+        // The time the next pending chunk is due to be written (considering the bandwidth cap)
+        private long nextDue(long now) {
+            if (pending.isEmpty() || (sinkKey().isValid() && (sinkKey().interestOps() & SelectionKey.OP_WRITE) != 0)) {
+                return Long.MAX_VALUE;
+            }
+
+            final long bandwidth = conditions.getBandwidth();
+            final long due = pending.peek().due;
+            if (bandwidth > 0 && allowance < 1) {
+                final long refill = (long) ((1 - allowance) * 1_000_000_000d / bandwidth) + 1;
+                return Math.max(due, allowanceUpdated + refill);
+            }
+            return due;
+        }
+
+        private boolean isClosed() {
+            return shutdown || (!sinkKey().isValid() && !sourceKey().isValid());
+        }
+    }
+
+    private static void interest(final SelectionKey key, int operation, boolean enabled) {
+        if (key.isValid()) {
+            key.interestOps(enabled ? key.interestOps() | operation : key.interestOps() & ~operation);
+        }
+    }
+
+    private static final class Chunk {
+        private final ByteBuffer data;
+        private final long due;
+
+        private Chunk(final ByteBuffer data, long due) {
+            this.data = data;
+            this.due = due;
+        }
+    }
+}
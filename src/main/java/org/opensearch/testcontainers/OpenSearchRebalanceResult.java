@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of the cluster scale operation (see please {@link OpenSearchCluster#addNode(String...)} and
+ * {@link OpenSearchCluster#removeNode(OpenSearchContainer)}): the time it took the shards to settle and the
+ * shard copies (and bytes) recovered from the peers meanwhile.
+ */
+public final class OpenSearchRebalanceResult {
+    private static final String RECOVERY_PATH = "/_recovery?active_only=false";
+
+    private final OpenSearchContainer<?> node;
+    private final Duration duration;
+    private final int relocatedShards;
+    private final long bytes;
+
+    private OpenSearchRebalanceResult(
+            final OpenSearchContainer<?> node, final Duration duration, int relocatedShards, long bytes) {
+        this.node = node;
+        this.duration = duration;
+        this.relocatedShards = relocatedShards;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Capture the peer recoveries of all shard copies (the latest recovery of every shard copy is kept by
+     * OpenSearch), to be compared once the shards have settled
+     * @param client the HTTP(s) client
+     * @return the bytes recovered by every peer recovery (by index, shard, target node and start time)
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Long> captureRecoveries(final OpenSearchHttpClient client) {
+        final Map<String, Long> recoveries = new HashMap<>();
+        final Map<String, Object> indices = client.get(RECOVERY_PATH).expectSuccess().getJsonObject();
+        for (final Map.Entry<String, Object> index : indices.entrySet()) {
+            final Object shards = ((Map<String, Object>) index.getValue()).get("shards");
+            for (final Object value : (List<Object>) shards) {
+                final Map<String, Object> shard = (Map<String, Object>) value;
+                if (!"PEER".equals(shard.get("type"))) {
+                    continue; /* the new primaries, the snapshot restores, ... */
+                }
+
+                final Map<String, Object> target = (Map<String, Object>) shard.get("target");
+                final Map<String, Object> size =
+                        (Map<String, Object>) ((Map<String, Object>) shard.get("index")).get("size");
+                recoveries.put(
+                        index.getKey() + "/" + shard.get("id") + "/" + target.get("name") + "/"
+                                + shard.get("start_time_in_millis"),
+                        ((Number) size.get("recovered_in_bytes")).longValue());
+            }
+        }
+        return recoveries;
+    }
+
+    /**
+     * Compute the result of the scale operation from the peer recoveries captured before and after it
+     * @param node the added (or removed) node
+     * @param duration the time it took the shards to settle
+     * @param before the peer recoveries captured before the scale operation
+     * @param after the peer recoveries captured after the scale operation
+     * @return the result of the scale operation
+     */
+    static OpenSearchRebalanceResult of(
+            final OpenSearchContainer<?> node,
+            final Duration duration,
+            final Map<String, Long> before,
+            final Map<String, Long> after) {
+        int relocatedShards = 0;
+        long bytes = 0;
+        for (final Map.Entry<String, Long> recovery : after.entrySet()) {
+            if (!before.containsKey(recovery.getKey())) {
+                relocatedShards++;
+                bytes += recovery.getValue();
+            }
+        }
+        return new OpenSearchRebalanceResult(node, duration, relocatedShards, bytes);
+    }
+
+    /**
+     * Return the added (or removed) node
+     * @return the added (or removed) node
+     */
+    public OpenSearchContainer<?> getNode() {
+        return node;
+    }
+
+    /**
+     * Return the time it took the shards to settle: from the node joined (or the allocation exclusion applied)
+     * till no shards are relocating
+     * @return the time it took the shards to settle
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Return the number of shard copies recovered from the peers (relocated or allocated replicas)
+     * @return the number of shard copies recovered from the peers
+     */
+    public int getRelocatedShards() {
+        return relocatedShards;
+    }
+
+    /**
+     * Return the number of bytes recovered from the peers (the files reused by the target are not included)
+     * @return the number of bytes recovered from the peers
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return "OpenSearchRebalanceResult{node=" + node.getEnvMap().get("node.name") + ", duration=" + duration
+                + ", relocatedShards=" + relocatedShards + ", bytes=" + bytes + "}";
+    }
+}
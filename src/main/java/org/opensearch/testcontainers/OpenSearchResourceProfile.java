@@ -0,0 +1,276 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import com.github.dockerjava.api.model.HostConfig;
+import com.github.dockerjava.api.model.Ulimit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The JVM heap and container resources (memory, CPU) profile of OpenSearch node. The profile is immutable,
+ * every {@code with*} method returns a new instance. The unset resources are left to the image (and Docker)
+ * defaults, with one exception: if memory limit is set but heap size is not, the heap size is set to the half
+ * of the memory limit (as per OpenSearch recommendations).
+ *
+ * The predefined profiles could be used as a starting point:
+ *
+ *      OpenSearchResourceProfile.tinyCiNode()
+ *      OpenSearchResourceProfile.benchmarkNode().withCpuLimit(8)
+ */
+public final class OpenSearchResourceProfile {
+    private static final Pattern SIZE = Pattern.compile("^(\\d+)([kmg]?)$");
+    private static final long MB = 1024L * 1024L;
+
+    /**
+     * The garbage collector to be used by OpenSearch JVM (please note that the garbage collector selection is
+     * supported by OpenSearch 2.x and above, bundled with JDK 17 or later).
+     */
+    public enum GarbageCollector {
+        /** Garbage First collector (the default one) */
+        G1("-XX:+UseG1GC"),
+        /** Serial collector, the smallest footprint for small heaps */
+        SERIAL("-XX:-UseG1GC -XX:+UseSerialGC"),
+        /** Parallel collector, the highest throughput */
+        PARALLEL("-XX:-UseG1GC -XX:+UseParallelGC");
+
+        private final String javaOpts;
+
+        GarbageCollector(final String javaOpts) {
+            this.javaOpts = javaOpts;
+        }
+    }
+
+    private static final OpenSearchResourceProfile NONE = new OpenSearchResourceProfile(null, null, null, null, false);
+
+    private final Long heapSize;
+    private final Long memoryLimit;
+    private final Double cpuLimit;
+    private final GarbageCollector garbageCollector;
+    private final boolean memoryLock;
+
+    private OpenSearchResourceProfile(
+            final Long heapSize,
+            final Long memoryLimit,
+            final Double cpuLimit,
+            final GarbageCollector garbageCollector,
+            final boolean memoryLock) {
+        this.heapSize = heapSize;
+        this.memoryLimit = memoryLimit;
+        this.cpuLimit = cpuLimit;
+        this.garbageCollector = garbageCollector;
+        this.memoryLock = memoryLock;
+    }
+
+    /**
+     * The profile which leaves all resources to the image (and Docker) defaults.
+     * @return the empty profile
+     */
+    public static OpenSearchResourceProfile none() {
+        return NONE;
+    }
+
+    /**
+     * The profile of tiny CI node: 256m heap, 1g memory limit, 1 CPU and serial garbage collector, allows
+     * to pack many nodes per CI host.
+     * @return the tiny CI node profile
+     */
+    public static OpenSearchResourceProfile tinyCiNode() {
+        return NONE.withHeapSize("256m")
+                .withMemoryLimit("1g")
+                .withCpuLimit(1)
+                .withGarbageCollector(GarbageCollector.SERIAL);
+    }
+
+    /**
+     * The profile of benchmark node: 4g heap, 8g memory limit, 4 CPUs, G1 garbage collector and memory
+     * locked (no swapping).
+     * @return the benchmark node profile
+     */
+    public static OpenSearchResourceProfile benchmarkNode() {
+        return NONE.withHeapSize("4g")
+                .withMemoryLimit("8g")
+                .withCpuLimit(4)
+                .withGarbageCollector(GarbageCollector.G1)
+                .withMemoryLock(true);
+    }
+
+    /**
+     * Set the JVM heap size (both initial and maximum).
+     * @param heapSize heap size, like 512m or 2g
+     * @return new profile instance
+     */
+    public OpenSearchResourceProfile withHeapSize(final String heapSize) {
+        return new OpenSearchResourceProfile(parseSize(heapSize), memoryLimit, cpuLimit, garbageCollector, memoryLock);
+    }
+
+    /**
+     * Set the container memory limit (the swap is disabled).
+     * @param memoryLimit memory limit, like 1g or 1536m
+     * @return new profile instance
+     */
+    public OpenSearchResourceProfile withMemoryLimit(final String memoryLimit) {
+        return new OpenSearchResourceProfile(heapSize, parseSize(memoryLimit), cpuLimit, garbageCollector, memoryLock);
+    }
+
+    /**
+     * Set the container CPU limit.
+     * @param cpuLimit number of CPUs (could be fractional, like 0.5)
+     * @return new profile instance
+     */
+    public OpenSearchResourceProfile withCpuLimit(double cpuLimit) {
+        if (cpuLimit <= 0) {
+            throw new IllegalArgumentException("The CPU limit should be positive but got " + cpuLimit);
+        }
+        return new OpenSearchResourceProfile(heapSize, memoryLimit, cpuLimit, garbageCollector, memoryLock);
+    }
+
+    /**
+     * Set the garbage collector.
+     * @param garbageCollector garbage collector
+     * @return new profile instance
+     */
+    public OpenSearchResourceProfile withGarbageCollector(final GarbageCollector garbageCollector) {
+        return new OpenSearchResourceProfile(heapSize, memoryLimit, cpuLimit, garbageCollector, memoryLock);
+    }
+
+    /**
+     * Lock the JVM memory (bootstrap.memory_lock), the memlock ulimit of the container is lifted accordingly.
+     * @param memoryLock "true" to lock the JVM memory, "false" otherwise
+     * @return new profile instance
+     */
+    public OpenSearchResourceProfile withMemoryLock(boolean memoryLock) {
+        return new OpenSearchResourceProfile(heapSize, memoryLimit, cpuLimit, garbageCollector, memoryLock);
+    }
+
+    /**
+     * Return the JVM heap size in bytes, explicitly set or derived from the memory limit
+     * @return the JVM heap size in bytes, if known
+     */
+    public Optional<Long> getHeapSize() {
+        if (heapSize != null) {
+            return Optional.of(heapSize);
+        } else if (memoryLimit != null) {
+            return Optional.of(memoryLimit / 2);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Return the container memory limit in bytes
+     * @return the container memory limit in bytes, if set
+     */
+    public Optional<Long> getMemoryLimit() {
+        return Optional.ofNullable(memoryLimit);
+    }
+
+    /**
+     * Return the container CPU limit
+     * @return the container CPU limit, if set
+     */
+    public Optional<Double> getCpuLimit() {
+        return Optional.ofNullable(cpuLimit);
+    }
+
+    /**
+     * Return the garbage collector
+     * @return the garbage collector, if set
+     */
+    public Optional<GarbageCollector> getGarbageCollector() {
+        return Optional.ofNullable(garbageCollector);
+    }
+
+    /**
+     * Check if the JVM memory is locked or not
+     * @return "true" if the JVM memory is locked, "false" otherwise
+     */
+    public boolean isMemoryLock() {
+        return memoryLock;
+    }
+
+    @Override
+    public String toString() {
+        return "OpenSearchResourceProfile{heapSize=" + heapSize + ", memoryLimit=" + memoryLimit + ", cpuLimit="
+                + cpuLimit + ", garbageCollector=" + garbageCollector + ", memoryLock=" + memoryLock + "}";
+    }
+
+    /**
+     * Return the JVM options (to be passed through OPENSEARCH_JAVA_OPTS) for this profile
+     * @return the JVM options, could be empty
+     */
+    String getJavaOpts() {
+        final List<String> javaOpts = new ArrayList<>();
+        getHeapSize().map(OpenSearchResourceProfile::formatSize).ifPresent(size -> {
+            javaOpts.add("-Xms" + size);
+            javaOpts.add("-Xmx" + size);
+        });
+        if (garbageCollector != null) {
+            javaOpts.add(garbageCollector.javaOpts);
+        }
+        return String.join(" ", javaOpts);
+    }
+
+    /**
+     * Apply the container resources (memory, CPU, ulimits) of this profile to the host configuration
+     * @param hostConfig host configuration
+     */
+    void applyTo(final HostConfig hostConfig) {
+        if (memoryLimit != null) {
+            hostConfig.withMemory(memoryLimit).withMemorySwap(memoryLimit);
+        }
+
+        if (cpuLimit != null) {
+            hostConfig.withNanoCPUs((long) (cpuLimit * 1_000_000_000L));
+        }
+
+        if (memoryLock) {
+            final List<Ulimit> ulimits = new ArrayList<>();
+            if (hostConfig.getUlimits() != null) {
+                for (final Ulimit ulimit : hostConfig.getUlimits()) {
+                    if (!"memlock".equals(ulimit.getName())) {
+                        ulimits.add(ulimit);
+                    }
+                }
+            }
+            ulimits.add(new Ulimit("memlock", -1L, -1L));
+            hostConfig.withUlimits(ulimits);
+        }
+    }
+
+    /**
+     * Parse the size (like 512m or 2g) into bytes
+     * @param size the size
+     * @return the size in bytes
+     */
+    static long parseSize(final String size) {
+        final Matcher matcher = SIZE.matcher(size == null ? "" : size.trim().toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException(
+                    "The size should be a number with optional unit (k, m or g) but got " + size);
+        }
+
+        final long value = Long.parseLong(matcher.group(1));
+        switch (matcher.group(2)) {
+            case "k":
+                return value * 1024L;
+            case "m":
+                return value * MB;
+            case "g":
+                return value * 1024L * MB;
+            default:
+                return value;
+        }
+    }
+
+    private static String formatSize(long size) {
+        return (size % MB == 0) ? (size / MB) + "m" : Long.toString(size);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+/**
+ * Thrown when OpenSearch responds with unexpected (non successful) HTTP status code.
+ */
+public class OpenSearchResponseException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+    private final String body;
+
+    /**
+     * Create the exception
+     * @param message the message
+     * @param statusCode HTTP status code of the response
+     * @param body the body of the response
+     */
+    public OpenSearchResponseException(final String message, int statusCode, final String body) {
+        super(message + ", HTTP " + statusCode + ": " + body);
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    /**
+     * Return HTTP status code of the response
+     * @return HTTP status code of the response
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Return the body of the response
+     * @return the body of the response
+     */
+    public String getBody() {
+        return body;
+    }
+}
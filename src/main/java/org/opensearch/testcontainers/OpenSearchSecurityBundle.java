@@ -0,0 +1,266 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.net.ssl.SSLContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.startupcheck.OneShotStartupCheckStrategy;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * The pre-generated security bundle for the fast secure mode: the certificates (the CA, the node keystore and
+ * the truststore, generated once with JDK's keytool), the opensearch.yml with security settings and the
+ * internal users (with the admin password hashed once by the image's hash.sh tool). The bundle is cached
+ * locally (~/.testcontainers/opensearch-security), so the demo configuration installer does not have to run
+ * on every container start.
+ */
+final class OpenSearchSecurityBundle {
+    // The paths inside the container
+    static final String CONFIG_PATH = "/usr/share/opensearch/config/";
+    static final String CERTIFICATES_PATH = CONFIG_PATH + "testcontainers/";
+
+    private static final Path CACHE =
+            Path.of(System.getProperty("user.home"), ".testcontainers", "opensearch-security");
+    private static final String STORE_PASSWORD = "changeit";
+    private static final String NODE_DN = "CN=opensearch-node";
+    private static final String ADMIN_DN = "CN=opensearch-admin";
+    private static final String HASH_TOOL = "/usr/share/opensearch/plugins/opensearch-security/tools/hash.sh";
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}");
+
+    private final Path opensearchYml;
+    private final Path nodeKeyStore;
+    private final Path trustStore;
+    private final Path internalUsers;
+
+    private OpenSearchSecurityBundle(
+            final Path opensearchYml, final Path nodeKeyStore, final Path trustStore, final Path internalUsers) {
+        this.opensearchYml = opensearchYml;
+        this.nodeKeyStore = nodeKeyStore;
+        this.trustStore = trustStore;
+        this.internalUsers = internalUsers;
+    }
+
+    /**
+     * Resolve the security bundle, generating the missing parts (the image is used to hash the password)
+     * @param dockerImageName the OpenSearch image
+     * @param password admin password
+     * @return the security bundle
+     */
+    static synchronized OpenSearchSecurityBundle resolve(final DockerImageName dockerImageName, final String password) {
+        try {
+            Files.createDirectories(CACHE);
+            // The cache is shared by all JVMs on the host
+            try (FileChannel channel = FileChannel.open(
+                    CACHE.resolve(".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                channel.lock();
+
+                final Path trustStore = CACHE.resolve("truststore.p12");
+                final Path nodeKeyStore = CACHE.resolve("node.p12");
+                if (!Files.exists(trustStore) || !Files.exists(nodeKeyStore)) {
+                    generateCertificates(nodeKeyStore, trustStore);
+                }
+
+                final Path opensearchYml = CACHE.resolve("opensearch.yml");
+                if (!Files.exists(opensearchYml)) {
+                    write(opensearchYml, opensearchYml());
+                }
+
+                final Path internalUsers =
+                        CACHE.resolve("internal_users-" + OpenSearchDerivedImages.hash(password) + ".yml");
+                if (!Files.exists(internalUsers)) {
+                    write(internalUsers, internalUsersYml(hash(dockerImageName, password)));
+                }
+
+                return new OpenSearchSecurityBundle(opensearchYml, nodeKeyStore, trustStore, internalUsers);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to prepare the security bundle in " + CACHE, ex);
+        }
+    }
+
+    Path getOpensearchYml() {
+        return opensearchYml;
+    }
+
+    Path getNodeKeyStore() {
+        return nodeKeyStore;
+    }
+
+    Path getTrustStore() {
+        return trustStore;
+    }
+
+    Path getInternalUsers() {
+        return internalUsers;
+    }
+
+    /**
+     * Create the SSL context which trusts the certificates issued by the bundle CA only
+     * @return the SSL context
+     */
+    SSLContext sslContext() {
+        try (InputStream in = Files.newInputStream(trustStore)) {
+            final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, STORE_PASSWORD.toCharArray());
+            return OpenSearchHttpClient.trustStoreSslContext(keyStore);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to load the truststore " + trustStore, ex);
+        } catch (final GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to load the truststore " + trustStore, ex);
+        }
+    }
+
+    // Generates the CA, the node keystore (signed by the CA) and the truststore (with the CA)
+    private static void generateCertificates(final Path nodeKeyStore, final Path trustStore) throws IOException {
+        final Path directory = Files.createTempDirectory(CACHE, "certificates");
+        try {
+            final String ca = directory.resolve("ca.p12").toString();
+            final String caPem = directory.resolve("ca.pem").toString();
+            final String node = directory.resolve("node.p12").toString();
+            final String nodeCsr = directory.resolve("node.csr").toString();
+            final String nodePem = directory.resolve("node.pem").toString();
+            final String chainPem = directory.resolve("chain.pem").toString();
+            final String trust = directory.resolve("truststore.p12").toString();
+
+            keytool("-genkeypair", "-alias", "ca", "-dname", "CN=opensearch-testcontainers-ca", "-ext", "bc:c",
+                    "-keyalg", "RSA", "-keysize", "2048", "-validity", "3650", "-storetype", "PKCS12",
+                    "-keystore", ca);
+            keytool("-exportcert", "-alias", "ca", "-rfc", "-keystore", ca, "-file", caPem);
+            keytool("-genkeypair", "-alias", "node", "-dname", NODE_DN, "-keyalg", "RSA", "-keysize", "2048",
+                    "-validity", "3650", "-storetype", "PKCS12", "-keystore", node);
+            keytool("-certreq", "-alias", "node", "-keystore", node, "-file", nodeCsr);
+            // The node certificate is used for both transport (client and server) and HTTP layers
+            keytool("-gencert", "-alias", "ca", "-keystore", ca, "-infile", nodeCsr, "-outfile", nodePem, "-rfc",
+                    "-validity", "3650", "-ext", "SAN=dns:localhost,ip:127.0.0.1", "-ext",
+                    "KU=digitalSignature,keyEncipherment", "-ext", "EKU=serverAuth,clientAuth");
+
+            // The certificate reply includes the whole chain, so the CA does not need to be in the keystore
+            Files.write(
+                    Path.of(chainPem),
+                    (Files.readString(Path.of(nodePem)) + Files.readString(Path.of(caPem)))
+                            .getBytes(StandardCharsets.US_ASCII));
+            keytool("-importcert", "-alias", "node", "-noprompt", "-keystore", node, "-file", chainPem);
+            keytool("-importcert", "-alias", "ca", "-noprompt", "-storetype", "PKCS12", "-keystore", trust,
+                    "-file", caPem);
+
+            Files.move(Path.of(node), nodeKeyStore, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(Path.of(trust), trustStore, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (final Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void keytool(final String... args) throws IOException {
+        final boolean windows = System.getProperty("os.name").toLowerCase(Locale.ROOT).startsWith("windows");
+        final List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", windows ? "keytool.exe" : "keytool")
+                .toString());
+        command.addAll(Arrays.asList(args));
+        command.addAll(List.of("-storepass", STORE_PASSWORD));
+        if (!"-exportcert".equals(args[0])) {
+            command.addAll(List.of("-keypass", STORE_PASSWORD));
+        }
+        // The older JDKs (bundled with OpenSearch 1.x images) do not support the modern PKCS12 encryption
+        command.add("-J-Dkeystore.pkcs12.legacy");
+
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try {
+            final String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            if (!process.waitFor(1, TimeUnit.MINUTES) || process.exitValue() != 0) {
+                throw new IllegalStateException("Unable to generate the certificates, keytool " + args[0]
+                        + " has failed: " + output);
+            }
+        } catch (final InterruptedException ex) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating the certificates", ex);
+        }
+    }
+
+    // Hashes the password (bcrypt) using the hash tool bundled with the security plugin
+    private static String hash(final DockerImageName dockerImageName, final String password) {
+        try (GenericContainer<?> container = new GenericContainer<>(dockerImageName)
+                .withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint(HASH_TOOL))
+                .withCommand("-p", password)
+                .withEnv("OPENSEARCH_JAVA_HOME", "/usr/share/opensearch/jdk")
+                .withStartupCheckStrategy(new OneShotStartupCheckStrategy().withTimeout(Duration.ofMinutes(1)))) {
+            container.start();
+
+            final Matcher matcher = BCRYPT_HASH.matcher(container.getLogs());
+            if (!matcher.find()) {
+                throw new IllegalStateException("Unable to hash the password: " + container.getLogs());
+            }
+            return matcher.group();
+        }
+    }
+
+    private static String opensearchYml() {
+        final StringBuilder yml = new StringBuilder()
+                .append("cluster.name: docker-cluster\n")
+                .append("network.host: 0.0.0.0\n");
+        for (final String layer : List.of("transport", "http")) {
+            final String prefix = "plugins.security.ssl." + layer + ".";
+            yml.append(prefix).append("keystore_type: PKCS12\n")
+                    .append(prefix).append("keystore_filepath: testcontainers/node.p12\n")
+                    .append(prefix).append("keystore_alias: node\n")
+                    .append(prefix).append("keystore_password: ").append(STORE_PASSWORD).append('\n')
+                    .append(prefix).append("truststore_type: PKCS12\n")
+                    .append(prefix).append("truststore_filepath: testcontainers/truststore.p12\n")
+                    .append(prefix).append("truststore_password: ").append(STORE_PASSWORD).append('\n');
+        }
+        return yml.append("plugins.security.ssl.transport.enforce_hostname_verification: false\n")
+                .append("plugins.security.ssl.http.enabled: true\n")
+                .append("plugins.security.allow_default_init_securityindex: true\n")
+                .append("plugins.security.authcz.admin_dn: [\"").append(ADMIN_DN).append("\"]\n")
+                .append("plugins.security.nodes_dn: [\"").append(NODE_DN).append("\"]\n")
+                .append("plugins.security.restapi.roles_enabled: [\"all_access\", \"security_rest_api_access\"]\n")
+                .toString();
+    }
+
+    private static String internalUsersYml(final String hash) {
+        return "_meta:\n"
+                + "  type: \"internalusers\"\n"
+                + "  config_version: 2\n"
+                + "admin:\n"
+                + "  hash: \"" + hash + "\"\n"
+                + "  reserved: true\n"
+                + "  backend_roles:\n"
+                + "  - \"admin\"\n"
+                + "  description: \"Admin user\"\n";
+    }
+
+    private static void write(final Path file, final String content) throws IOException {
+        // Write to the temporary file first, so the partially written file is never observed
+        final Path temporary = Files.createTempFile(CACHE, file.getFileName().toString(), ".tmp");
+        Files.writeString(temporary, content, StandardCharsets.UTF_8);
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The search (query or fetch phase) or indexing slow log event, captured from the container output (see please
+ * {@link OpenSearchContainer#withSlowLog(Duration, Duration)}).
+ */
+public final class OpenSearchSlowLogEvent {
+    // The prefix of the slow log lines in the container output (see please the log4j2 override)
+    static final String PREFIX = "[testcontainers-slowlog] ";
+
+    private static final Pattern TOOK = Pattern.compile("took\\[(\\d+(?:\\.\\d+)?)(nanos|micros|ms|s|m|h|d)\\]");
+    private static final Pattern TOOK_MILLIS = Pattern.compile("took_millis\\[(\\d+)\\]");
+
+    /**
+     * The type of the slow log event
+     */
+    public enum Type {
+        /** The query phase of the search (per shard) */
+        QUERY,
+        /** The fetch phase of the search (per shard) */
+        FETCH,
+        /** The indexing of the document */
+        INDEX
+    }
+
+    private final Type type;
+    private final String index;
+    private final int shard;
+    private final Duration took;
+    private final String source;
+    private final String message;
+
+    private OpenSearchSlowLogEvent(
+            final Type type,
+            final String index,
+            int shard,
+            final Duration took,
+            final String source,
+            final String message) {
+        this.type = type;
+        this.index = index;
+        this.shard = shard;
+        this.took = took;
+        this.source = source;
+        this.message = message;
+    }
+
+    /**
+     * Parse the slow log line of the container output, formatted as "[testcontainers-slowlog] logger|message"
+     * @param line the line of the container output
+     * @return the slow log event or {@code null} if the line is not a slow log one
+     */
+    static OpenSearchSlowLogEvent parse(final String line) {
+        final int start = line.indexOf(PREFIX);
+        final int separator = line.indexOf('|', start + 1);
+        if (start < 0 || separator < 0) {
+            return null;
+        }
+
+        final String logger = line.substring(start + PREFIX.length(), separator);
+        final Type type;
+        if (logger.endsWith(".query")) {
+            type = Type.QUERY;
+        } else if (logger.endsWith(".fetch")) {
+            type = Type.FETCH;
+        } else if (logger.endsWith(".index")) {
+            type = Type.INDEX;
+        } else {
+            return null;
+        }
+
+        // The message starts with the shard ("[index][shard]", search) or the index ("[index/uuid]", indexing)
+        final String message = line.substring(separator + 1).trim();
+        String index = null;
+        int shard = -1;
+        if (message.startsWith("[")) {
+            final int end = message.indexOf(']');
+            if (end > 0) {
+                index = message.substring(1, end);
+                if (index.indexOf('/') >= 0) {
+                    index = index.substring(0, index.indexOf('/'));
+                }
+
+                final int shardEnd = message.indexOf(']', end + 1);
+                if (message.startsWith("[", end + 1) && shardEnd > 0) {
+                    try {
+                        shard = Integer.parseInt(message.substring(end + 2, shardEnd));
+                    } catch (final NumberFormatException ex) {
+                        shard = -1;
+                    }
+                }
+            }
+        }
+
+        return new OpenSearchSlowLogEvent(type, index, shard, took(message), source(message), message);
+    }
+
+    /**
+     * Return the type of the event
+     * @return the type of the event
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Return the index the event is related to
+     * @return the index (or {@code null} if the message could not be parsed)
+     */
+    public String getIndex() {
+        return index;
+    }
+
+    /**
+     * Return the shard the search event is related to
+     * @return the shard number (or -1 for the indexing events)
+     */
+    public int getShard() {
+        return shard;
+    }
+
+    /**
+     * Return the time the operation took
+     * @return the time the operation took (or zero if the message could not be parsed)
+     */
+    public Duration getTook() {
+        return took;
+    }
+
+    /**
+     * Return the source of the search request or the indexed document (could be truncated)
+     * @return the source (or {@code null} if not logged)
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Return the slow log message as logged
+     * @return the slow log message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "OpenSearchSlowLogEvent{type=" + type + ", index=" + index + ", shard=" + shard + ", took=" + took
+                + ", source=" + source + "}";
+    }
+
+    // The "took" is formatted as OpenSearch's time value, like "1.2ms" or "150micros"
+    private static Duration took(final String message) {
+        final Matcher took = TOOK.matcher(message);
+        if (took.find()) {
+            final double value = Double.parseDouble(took.group(1));
+            final long nanos;
+            switch (took.group(2)) {
+                case "nanos":
+                    nanos = 1L;
+                    break;
+                case "micros":
+                    nanos = 1_000L;
+                    break;
+                case "ms":
+                    nanos = 1_000_000L;
+                    break;
+                case "s":
+                    nanos = 1_000_000_000L;
+                    break;
+                case "m":
+                    nanos = 60_000_000_000L;
+                    break;
+                case "h":
+                    nanos = 3_600_000_000_000L;
+                    break;
+                default:
+                    nanos = 86_400_000_000_000L;
+            }
+            return Duration.ofNanos((long) (value * nanos));
+        }
+
+        final Matcher tookMillis = TOOK_MILLIS.matcher(message);
+        return tookMillis.find() ? Duration.ofMillis(Long.parseLong(tookMillis.group(1))) : Duration.ZERO;
+    }
+
+    // The source could contain brackets, so it spans till the next field (search) or the end of the message
+    private static String source(final String message) {
+        final int start = message.indexOf("source[");
+        if (start < 0) {
+            return null;
+        }
+
+        int end = message.lastIndexOf("], id[");
+        if (end < start) {
+            end = message.lastIndexOf(']');
+        }
+        return end < start ? null : message.substring(start + "source[".length(), end);
+    }
+}
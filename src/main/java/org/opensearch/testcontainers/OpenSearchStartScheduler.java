@@ -0,0 +1,324 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import com.github.dockerjava.api.model.Info;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+
+/**
+ * The scheduler of the container starts, which admits the starts based on the Docker host capacity (CPUs and
+ * memory) and queues the rest (in the order of arrival), so many containers (or clusters) started in parallel
+ * do not overload the Docker host. Every container is expected to take:
+ *
+ *   - while booting: its CPU limit (or 1 CPU if not set) of the CPU capacity
+ *   - until stopped: its memory limit (or twice its JVM heap size if not set) of the memory capacity
+ *
+ * The start is admitted once it fits into the remaining capacity. The CPU demand of the containers started
+ * together (like the nodes of the cluster) is capped by the CPU capacity, so they are admitted once nothing else
+ * is booting, but the memory demand is not: the start which could never fit into the memory capacity fails
+ * immediately, the one not admitted within the startup timeout of the container (the memory is held by the
+ * containers which are never stopped, like the pooled ones) fails once the timeout expires. The time spent in
+ * the queue is reported separately from the startup phases (see please
+ * {@link OpenSearchStartupTimings#getQueueWait()}).
+ *
+ *      final OpenSearchStartScheduler scheduler = OpenSearchStartScheduler.forDockerHost();
+ *      containers.forEach(container -&gt; container.withStartScheduler(scheduler));
+ *      Startables.deepStart(containers).join();
+ */
+public final class OpenSearchStartScheduler {
+    // The default JVM heap size of OpenSearch (see please config/jvm.options)
+    private static final long DEFAULT_HEAP_SIZE = 1024L * 1024L * 1024L;
+    private static final Pattern MAX_HEAP_SIZE = Pattern.compile("-Xmx(\\d+[kmgKMG]?)");
+
+    private final double cpus;
+    private final long memory;
+
+    // The starts waiting for admission (in the order of arrival) and the reservations of the admitted containers
+    private final Queue<Admission> queue = new ArrayDeque<>();
+    private final Map<OpenSearchContainer<?>, Reservation> reservations = new IdentityHashMap<>();
+    private double bootingCpus;
+    private long reservedMemory;
+
+    // The capacity claimed by the pools of the shared containers (see please #claimPoolCapacity), which keep
+    // their containers (and so their reservations) until the JVM exits
+    private double pooledCpus;
+    private long pooledMemory;
+
+    private OpenSearchStartScheduler(double cpus, long memory) {
+        this.cpus = cpus;
+        this.memory = memory;
+    }
+
+    /**
+     * Create the scheduler with the capacity of the Docker host (as reported by the Docker daemon)
+     * @return new scheduler instance
+     */
+    public static OpenSearchStartScheduler forDockerHost() {
+        final Info info = DockerClientFactory.instance().client().infoCmd().exec();
+        if (info.getNCPU() == null || info.getMemTotal() == null) {
+            throw new IllegalStateException("The Docker host did not report its CPUs and memory");
+        }
+        return new OpenSearchStartScheduler(info.getNCPU(), info.getMemTotal());
+    }
+
+    /**
+     * Create the scheduler with the given capacity (like the share of the Docker host dedicated to the tests)
+     * @param cpus number of CPUs
+     * @param memory memory, like 8g or 16384m
+     * @return new scheduler instance
+     */
+    public static OpenSearchStartScheduler of(double cpus, final String memory) {
+        if (cpus <= 0) {
+            throw new IllegalArgumentException("The number of CPUs should be positive but got " + cpus);
+        }
+
+        final long bytes = OpenSearchResourceProfile.parseSize(memory);
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("The memory should be positive but got " + memory);
+        }
+        return new OpenSearchStartScheduler(cpus, bytes);
+    }
+
+    /**
+     * Return the CPU capacity
+     * @return number of CPUs
+     */
+    public double getCpus() {
+        return cpus;
+    }
+
+    /**
+     * Return the memory capacity
+     * @return memory in bytes
+     */
+    public long getMemory() {
+        return memory;
+    }
+
+    /**
+     * Return the memory reserved by the booting and running containers
+     * @return memory in bytes
+     */
+    public synchronized long getReservedMemory() {
+        return reservedMemory;
+    }
+
+    /**
+     * Return the number of starts waiting for admission
+     * @return number of starts waiting for admission
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    @Override
+    public String toString() {
+        return "OpenSearchStartScheduler{cpus=" + cpus + ", memory=" + memory + "}";
+    }
+
+    /**
+     * Wait for the container start to be admitted (returns immediately if the container has been admitted
+     * already, as the node of the cluster)
+     * @param container the container to be started
+     * @param timeout how long to wait for the admission
+     * @return the time spent in the queue
+     */
+    Duration admit(final OpenSearchContainer<?> container, final Duration timeout) {
+        return admit(Collections.singletonList(container), timeout);
+    }
+
+    /**
+     * Wait for the start of all containers (like the nodes of the cluster, which have to boot together) to be
+     * admitted at once
+     * @param containers the containers to be started
+     * @param timeout how long to wait for the admission
+     * @return the time spent in the queue
+     */
+    synchronized Duration admit(final List<? extends OpenSearchContainer<?>> containers, final Duration timeout) {
+        final Reservation existing = reservations.get(containers.get(0));
+        if (existing != null) {
+            return existing.queueWait;
+        }
+
+        final Admission admission = new Admission(containers);
+        if (admission.memory > memory) {
+            throw new ContainerLaunchException("The start requires " + admission.memory + " bytes of memory, more"
+                    + " than the capacity of the scheduler (" + memory + " bytes), please lower the heap size"
+                    + " or the memory limit");
+        }
+
+        final long deadline = admission.enqueuedAt + timeout.toNanos();
+        queue.add(admission);
+        try {
+            while (queue.peek() != admission || !fits(admission)) {
+                final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    throw new ContainerLaunchException("The start has not been admitted within " + timeout
+                            + ": it requires " + admission.memory + " bytes of memory, " + reservedMemory + " of "
+                            + memory + " bytes are reserved by the containers not stopped yet and " + queue.size()
+                            + " start(s) are queued (including this one)");
+                }
+                wait(remaining);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for the container start admission", ex);
+        } finally {
+            // The next start in the queue may fit now (the remaining capacity is checked again)
+            queue.remove(admission);
+            notifyAll();
+        }
+
+        final Duration queueWait = Duration.ofNanos(System.nanoTime() - admission.enqueuedAt);
+        for (final OpenSearchContainer<?> container : containers) {
+            final Reservation reservation = new Reservation(cpus(container), memory(container), queueWait);
+            reservations.put(container, reservation);
+            bootingCpus += reservation.cpus;
+            reservedMemory += reservation.memory;
+        }
+        return queueWait;
+    }
+
+    /**
+     * The container has booted (is ready), its CPU share is released but the memory stays reserved
+     * @param container the container
+     */
+    synchronized void booted(final OpenSearchContainer<?> container) {
+        final Reservation reservation = reservations.get(container);
+        if (reservation != null && reservation.booting) {
+            reservation.booting = false;
+            bootingCpus -= reservation.cpus;
+            notifyAll();
+        }
+    }
+
+    /**
+     * The container has been stopped (or failed to start), its reservation is released
+     * @param container the container
+     */
+    synchronized void release(final OpenSearchContainer<?> container) {
+        final Reservation reservation = reservations.remove(container);
+        if (reservation != null) {
+            if (reservation.booting) {
+                bootingCpus -= reservation.cpus;
+            }
+            reservedMemory -= reservation.memory;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Claim the capacity for the pool of the shared containers of such resource profile from the budget shared
+     * by all pools: every container is expected to keep its CPU limit (or 2 CPUs) busy and to hold its memory
+     * (the pooled containers are never stopped). Unless the size is given, the pool gets the half of the budget
+     * left (rounded up), so the pools created later (like the other versions of the matrix) get their share.
+     * @param resourceProfile the resource profile of the containers
+     * @param size the number of containers (or 0 to size the pool from the budget left)
+     * @return the number of containers (at least one)
+     */
+    synchronized int claimPoolCapacity(final OpenSearchResourceProfile resourceProfile, int size) {
+        final double cpuShare = resourceProfile.getCpuLimit().orElse(2d);
+        final long memoryShare = memory(resourceProfile, null);
+
+        int claimed = size;
+        if (claimed <= 0) {
+            final long left = Math.min((long) ((cpus - pooledCpus) / cpuShare), (memory - pooledMemory) / memoryShare);
+            claimed = (int) Math.max((left + 1) / 2, 1);
+        }
+
+        pooledCpus += claimed * cpuShare;
+        pooledMemory += claimed * memoryShare;
+        return claimed;
+    }
+
+    /**
+     * Check if the start of the container of such resource profile would be admitted right away (nothing is
+     * queued and it fits into the remaining capacity)
+     * @param resourceProfile the resource profile of the container
+     * @return "true" if the start would be admitted right away, "false" otherwise
+     */
+    synchronized boolean isAdmissible(final OpenSearchResourceProfile resourceProfile) {
+        final double cpuShare = Math.min(resourceProfile.getCpuLimit().orElse(1d), cpus);
+        return queue.isEmpty() && fits(cpuShare, memory(resourceProfile, null));
+    }
+
+    private boolean fits(final Admission admission) {
+        return fits(admission.cpus, admission.memory);
+    }
+
+    private boolean fits(double cpus, long memory) {
+        // The containers started together may exceed the CPU capacity, they boot once nothing else is booting
+        final boolean booting = reservations.values().stream().anyMatch(reservation -> reservation.booting);
+        return (!booting || bootingCpus + cpus <= this.cpus) && reservedMemory + memory <= this.memory;
+    }
+
+    // The CPU share taken by the container while booting (the JVM boot is CPU bound)
+    private double cpus(final OpenSearchContainer<?> container) {
+        return Math.min(container.getResourceProfile().getCpuLimit().orElse(1d), cpus);
+    }
+
+    // The memory taken by the container: the memory limit or twice the heap size (the heap is recommended to
+    // be the half of the memory), the heap size could also be passed through OPENSEARCH_JAVA_OPTS explicitly
+    private static long memory(final OpenSearchContainer<?> container) {
+        return memory(container.getResourceProfile(), container.getEnvMap().get("OPENSEARCH_JAVA_OPTS"));
+    }
+
+    private static long memory(final OpenSearchResourceProfile profile, final String javaOpts) {
+        if (profile.getMemoryLimit().isPresent()) {
+            return profile.getMemoryLimit().get();
+        }
+
+        long heapSize = DEFAULT_HEAP_SIZE;
+        if (profile.getHeapSize().isPresent()) {
+            heapSize = profile.getHeapSize().get();
+        } else if (javaOpts != null) {
+            final Matcher matcher = MAX_HEAP_SIZE.matcher(javaOpts);
+            while (matcher.find()) {
+                heapSize = OpenSearchResourceProfile.parseSize(matcher.group(1));
+            }
+        }
+        return 2 * heapSize;
+    }
+
+    private final class Admission {
+        private final long enqueuedAt = System.nanoTime();
+        private final double cpus;
+        private final long memory;
+
+        private Admission(final List<? extends OpenSearchContainer<?>> containers) {
+            this.cpus = containers.stream()
+                    .mapToDouble(OpenSearchStartScheduler.this::cpus)
+                    .sum();
+            this.memory = containers.stream()
+                    .mapToLong(OpenSearchStartScheduler::memory)
+                    .sum();
+        }
+    }
+
+    private static final class Reservation {
+        private final double cpus;
+        private final long memory;
+        private final Duration queueWait;
+        private boolean booting = true;
+
+        private Reservation(double cpus, long memory, final Duration queueWait) {
+            this.cpus = cpus;
+            this.memory = memory;
+            this.queueWait = queueWait;
+        }
+    }
+}
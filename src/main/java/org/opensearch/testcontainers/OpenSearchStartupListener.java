@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+
+/**
+ * The listener to be notified about OpenSearch container startup phases, once the container is started.
+ */
+@FunctionalInterface
+public interface OpenSearchStartupListener {
+    /**
+     * Called for every recorded startup phase, in the order of their execution.
+     * @param phase startup phase
+     * @param duration duration of the startup phase
+     */
+    void onPhase(OpenSearchStartupPhase phase, Duration duration);
+
+    /**
+     * Called once all startup phases are reported.
+     * @param timings the startup timings
+     */
+    default void onStarted(OpenSearchStartupTimings timings) {}
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+/**
+ * The phases of OpenSearch container startup, in the order of their execution.
+ */
+public enum OpenSearchStartupPhase {
+    /** Configuring the container and resolving (pulling or building) the Docker image */
+    IMAGE_RESOLUTION,
+    /** Creating the container */
+    CONTAINER_CREATION,
+    /** Starting the container */
+    CONTAINER_START,
+    /** Booting the JVM, loading the plugins and joining the cluster (up to the node "started" log marker) */
+    NODE_BOOT,
+    /** Initializing the security index (security plugin only, up to the "initialized" log marker) */
+    SECURITY_INITIALIZATION,
+    /** Waiting for the container to be ready (the rest of the wait strategy, like the shards allocation) */
+    READINESS
+}
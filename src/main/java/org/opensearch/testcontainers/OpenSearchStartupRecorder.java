@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.testcontainers.containers.output.OutputFrame;
+
+/**
+ * Records the timestamps of OpenSearch container startup milestones: the container lifecycle callbacks
+ * and the startup markers from the container log.
+ */
+final class OpenSearchStartupRecorder implements Consumer<OutputFrame> {
+    private final long startedAt = System.nanoTime();
+    private final Duration queueWait;
+    private volatile long imageResolvedAt;
+    private volatile long containerCreatedAt;
+    private volatile long containerStartedAt;
+    private volatile long nodeStartedAt;
+    private volatile long securityInitializedAt;
+
+    OpenSearchStartupRecorder(final Duration queueWait) {
+        this.queueWait = queueWait;
+    }
+
+    void imageResolved() {
+        imageResolvedAt = System.nanoTime();
+    }
+
+    void containerCreated() {
+        containerCreatedAt = System.nanoTime();
+    }
+
+    void containerStarted() {
+        containerStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void accept(final OutputFrame frame) {
+        final String line = frame.getUtf8String();
+        if (line == null) {
+            return;
+        }
+
+        if (nodeStartedAt == 0 && OpenSearchWaitStrategy.NODE_STARTED.matcher(line).find()) {
+            nodeStartedAt = System.nanoTime();
+        }
+
+        if (securityInitializedAt == 0 && OpenSearchWaitStrategy.SECURITY_INITIALIZED.matcher(line).find()) {
+            securityInitializedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Compute the startup timings once the container is ready and notify the listeners
+     * @param listeners listeners to notify
+     * @return startup timings
+     */
+    OpenSearchStartupTimings ready(final List<OpenSearchStartupListener> listeners) {
+        final long readyAt = System.nanoTime();
+        final Map<OpenSearchStartupPhase, Duration> phases = new EnumMap<>(OpenSearchStartupPhase.class);
+
+        long last = startedAt;
+        last = record(phases, OpenSearchStartupPhase.IMAGE_RESOLUTION, last, imageResolvedAt);
+        last = record(phases, OpenSearchStartupPhase.CONTAINER_CREATION, last, containerCreatedAt);
+        last = record(phases, OpenSearchStartupPhase.CONTAINER_START, last, containerStartedAt);
+        // The log markers are streamed asynchronously and may not have arrived yet (or be absent at all)
+        last = record(phases, OpenSearchStartupPhase.NODE_BOOT, last, nodeStartedAt);
+        last = record(phases, OpenSearchStartupPhase.SECURITY_INITIALIZATION, last, securityInitializedAt);
+        record(phases, OpenSearchStartupPhase.READINESS, last, readyAt);
+
+        final OpenSearchStartupTimings timings = new OpenSearchStartupTimings(phases, queueWait);
+        for (final OpenSearchStartupListener listener : listeners) {
+            timings.getPhases().forEach(listener::onPhase);
+            listener.onStarted(timings);
+        }
+
+        return timings;
+    }
+
+    private static long record(
+            final Map<OpenSearchStartupPhase, Duration> phases, OpenSearchStartupPhase phase, long from, long to) {
+        if (to == 0 || to < from) {
+            return from; /* not recorded or out of order */
+        }
+
+        phases.put(phase, Duration.ofNanos(to - from));
+        return to;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The durations of OpenSearch container startup phases (only the phases which were recorded are present) and
+ * the time spent waiting for the start admission (see please {@link OpenSearchStartScheduler}), which precedes
+ * the startup and is not included into any of its phases.
+ *
+ * The phase boundaries are taken on the client side: the image is resolved explicitly at the end of the container
+ * configuration, the container creation and start are timestamped by the Testcontainers lifecycle callbacks
+ * (right after the corresponding Docker API calls return, rather than from the Docker events) and the node boot
+ * and security initialization by the markers in the container log.
+ */
+public final class OpenSearchStartupTimings {
+    private final Map<OpenSearchStartupPhase, Duration> phases;
+    private final Duration queueWait;
+
+    OpenSearchStartupTimings(final Map<OpenSearchStartupPhase, Duration> phases, final Duration queueWait) {
+        this.phases = Collections.unmodifiableMap(new EnumMap<>(phases));
+        this.queueWait = queueWait;
+    }
+
+    /**
+     * Return the duration of the startup phase
+     * @param phase startup phase
+     * @return the duration of the startup phase or empty if it has not been recorded
+     */
+    public Optional<Duration> getDuration(final OpenSearchStartupPhase phase) {
+        return Optional.ofNullable(phases.get(phase));
+    }
+
+    /**
+     * Return the durations of all recorded startup phases, in the order of their execution
+     * @return the durations of all recorded startup phases
+     */
+    public Map<OpenSearchStartupPhase, Duration> getPhases() {
+        return phases;
+    }
+
+    /**
+     * Return the total startup time (the sum of all recorded phases, the queue wait is not included)
+     * @return the total startup time
+     */
+    public Duration getTotal() {
+        return phases.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Return the time spent waiting for the start admission (before the startup)
+     * @return the time spent waiting for the start admission, zero if the start was not scheduled
+     */
+    public Duration getQueueWait() {
+        return queueWait;
+    }
+
+    @Override
+    public String toString() {
+        return "OpenSearchStartupTimings{queueWait=" + queueWait + ", phases=" + phases + ", total=" + getTotal()
+                + "}";
+    }
+}
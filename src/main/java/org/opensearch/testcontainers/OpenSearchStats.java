@@ -0,0 +1,357 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The snapshot of the node statistics (see please {@code _nodes/stats} API), summed over all nodes of the
+ * cluster: indexing, search, merges, segments, caches, JVM garbage collection and thread pool rejections. The
+ * snapshots are typically captured before and after the test block and compared, see please
+ * {@link #since(OpenSearchStats)}.
+ *
+ *      final OpenSearchStats before = container.captureStats();
+ *      ... // run the test
+ *      final OpenSearchStatsDelta delta = container.captureStats().since(before);
+ *      assertThat(delta.getRejections(), is(0L));
+ */
+public final class OpenSearchStats {
+    private static final String STATS_PATH = "/_nodes/stats/indices,jvm,thread_pool";
+
+    private final int nodes;
+    private final long timestamp;
+    private final long documents;
+    private final long indexed;
+    private final long indexingTime;
+    private final long queries;
+    private final long queryTime;
+    private final long fetches;
+    private final long merges;
+    private final long mergeTime;
+    private final long refreshes;
+    private final long segments;
+    private final long queryCacheHits;
+    private final long queryCacheMisses;
+    private final long requestCacheHits;
+    private final long requestCacheMisses;
+    private final long gcCount;
+    private final long gcTime;
+    private final long heapUsed;
+    private final long heapMax;
+    private final Map<String, Long> rejections;
+
+    private OpenSearchStats(final Builder builder) {
+        this.nodes = builder.nodes;
+        this.timestamp = builder.timestamp;
+        this.documents = builder.documents;
+        this.indexed = builder.indexed;
+        this.indexingTime = builder.indexingTime;
+        this.queries = builder.queries;
+        this.queryTime = builder.queryTime;
+        this.fetches = builder.fetches;
+        this.merges = builder.merges;
+        this.mergeTime = builder.mergeTime;
+        this.refreshes = builder.refreshes;
+        this.segments = builder.segments;
+        this.queryCacheHits = builder.queryCacheHits;
+        this.queryCacheMisses = builder.queryCacheMisses;
+        this.requestCacheHits = builder.requestCacheHits;
+        this.requestCacheMisses = builder.requestCacheMisses;
+        this.gcCount = builder.gcCount;
+        this.gcTime = builder.gcTime;
+        this.heapUsed = builder.heapUsed;
+        this.heapMax = builder.heapMax;
+        this.rejections = Collections.unmodifiableMap(builder.rejections);
+    }
+
+    /**
+     * Capture the node statistics
+     * @param client HTTP client
+     * @return the node statistics, summed over all nodes
+     * @throws OpenSearchResponseException if the statistics could not be retrieved
+     */
+    static OpenSearchStats capture(final OpenSearchHttpClient client) {
+        return parse(client.get(STATS_PATH).expectSuccess().getBody());
+    }
+
+    /**
+     * Parse the node statistics
+     * @param json the response of {@code _nodes/stats} API
+     * @return the node statistics, summed over all nodes
+     */
+    @SuppressWarnings("unchecked")
+    static OpenSearchStats parse(final String json) {
+        final Builder builder = new Builder();
+        final Map<String, Object> nodes = (Map<String, Object>) Json.parseObject(json).get("nodes");
+        for (final Object value : nodes.values()) {
+            final Map<String, Object> node = (Map<String, Object>) value;
+            builder.nodes++;
+            builder.timestamp = Math.max(builder.timestamp, number(node, "timestamp"));
+            builder.documents += number(node, "indices", "docs", "count");
+            builder.indexed += number(node, "indices", "indexing", "index_total");
+            builder.indexingTime += number(node, "indices", "indexing", "index_time_in_millis");
+            builder.queries += number(node, "indices", "search", "query_total");
+            builder.queryTime += number(node, "indices", "search", "query_time_in_millis");
+            builder.fetches += number(node, "indices", "search", "fetch_total");
+            builder.merges += number(node, "indices", "merges", "total");
+            builder.mergeTime += number(node, "indices", "merges", "total_time_in_millis");
+            builder.refreshes += number(node, "indices", "refresh", "total");
+            builder.segments += number(node, "indices", "segments", "count");
+            builder.queryCacheHits += number(node, "indices", "query_cache", "hit_count");
+            builder.queryCacheMisses += number(node, "indices", "query_cache", "miss_count");
+            builder.requestCacheHits += number(node, "indices", "request_cache", "hit_count");
+            builder.requestCacheMisses += number(node, "indices", "request_cache", "miss_count");
+            builder.heapUsed += number(node, "jvm", "mem", "heap_used_in_bytes");
+            builder.heapMax += number(node, "jvm", "mem", "heap_max_in_bytes");
+
+            for (final Object collector : object(node, "jvm", "gc", "collectors").values()) {
+                builder.gcCount += number((Map<String, Object>) collector, "collection_count");
+                builder.gcTime += number((Map<String, Object>) collector, "collection_time_in_millis");
+            }
+
+            for (final Map.Entry<String, Object> pool : object(node, "thread_pool").entrySet()) {
+                final long rejected = number((Map<String, Object>) pool.getValue(), "rejected");
+                builder.rejections.merge(pool.getKey(), rejected, Long::sum);
+            }
+        }
+        return new OpenSearchStats(builder);
+    }
+
+    /**
+     * Compare this (later) snapshot with the earlier one
+     * @param earlier the earlier snapshot
+     * @return the difference between the snapshots
+     */
+    public OpenSearchStatsDelta since(final OpenSearchStats earlier) {
+        return new OpenSearchStatsDelta(earlier, this);
+    }
+
+    /**
+     * Return the number of nodes the statistics are summed over
+     * @return the number of nodes
+     */
+    public int getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Return the time the snapshot was taken at (by the node clock)
+     * @return the time the snapshot was taken at (milliseconds since the epoch)
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Return the number of documents (including the nested ones, excluding the deleted ones)
+     * @return the number of documents
+     */
+    public long getDocuments() {
+        return documents;
+    }
+
+    /**
+     * Return the total number of indexing operations
+     * @return the total number of indexing operations
+     */
+    public long getIndexed() {
+        return indexed;
+    }
+
+    /**
+     * Return the total time spent on indexing operations
+     * @return the total time spent on indexing operations (in milliseconds)
+     */
+    public long getIndexingTimeInMillis() {
+        return indexingTime;
+    }
+
+    /**
+     * Return the total number of queries (per shard)
+     * @return the total number of queries
+     */
+    public long getQueries() {
+        return queries;
+    }
+
+    /**
+     * Return the total time spent on queries (per shard)
+     * @return the total time spent on queries (in milliseconds)
+     */
+    public long getQueryTimeInMillis() {
+        return queryTime;
+    }
+
+    /**
+     * Return the total number of fetches (per shard)
+     * @return the total number of fetches
+     */
+    public long getFetches() {
+        return fetches;
+    }
+
+    /**
+     * Return the total number of merges
+     * @return the total number of merges
+     */
+    public long getMerges() {
+        return merges;
+    }
+
+    /**
+     * Return the total time spent on merges
+     * @return the total time spent on merges (in milliseconds)
+     */
+    public long getMergeTimeInMillis() {
+        return mergeTime;
+    }
+
+    /**
+     * Return the total number of refreshes
+     * @return the total number of refreshes
+     */
+    public long getRefreshes() {
+        return refreshes;
+    }
+
+    /**
+     * Return the number of segments
+     * @return the number of segments
+     */
+    public long getSegments() {
+        return segments;
+    }
+
+    /**
+     * Return the total number of query cache hits
+     * @return the total number of query cache hits
+     */
+    public long getQueryCacheHits() {
+        return queryCacheHits;
+    }
+
+    /**
+     * Return the total number of query cache misses
+     * @return the total number of query cache misses
+     */
+    public long getQueryCacheMisses() {
+        return queryCacheMisses;
+    }
+
+    /**
+     * Return the total number of request cache hits
+     * @return the total number of request cache hits
+     */
+    public long getRequestCacheHits() {
+        return requestCacheHits;
+    }
+
+    /**
+     * Return the total number of request cache misses
+     * @return the total number of request cache misses
+     */
+    public long getRequestCacheMisses() {
+        return requestCacheMisses;
+    }
+
+    /**
+     * Return the total number of garbage collections (all collectors)
+     * @return the total number of garbage collections
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Return the total time spent on garbage collections (all collectors)
+     * @return the total time spent on garbage collections (in milliseconds)
+     */
+    public long getGcTimeInMillis() {
+        return gcTime;
+    }
+
+    /**
+     * Return the JVM heap used
+     * @return the JVM heap used (in bytes)
+     */
+    public long getHeapUsedInBytes() {
+        return heapUsed;
+    }
+
+    /**
+     * Return the JVM heap maximum
+     * @return the JVM heap maximum (in bytes)
+     */
+    public long getHeapMaxInBytes() {
+        return heapMax;
+    }
+
+    /**
+     * Return the total number of rejected tasks per thread pool
+     * @return the total number of rejected tasks per thread pool (by thread pool name)
+     */
+    public Map<String, Long> getRejections() {
+        return rejections;
+    }
+
+    @Override
+    public String toString() {
+        return "OpenSearchStats{nodes=" + nodes + ", documents=" + documents + ", indexed=" + indexed + ", queries="
+                + queries + ", merges=" + merges + ", segments=" + segments + ", gcCount=" + gcCount
+                + ", heapUsedInBytes=" + heapUsed + "}";
+    }
+
+    // Returns the number at the given path (or 0 if the path does not exist, as the stats vary between versions)
+    @SuppressWarnings("unchecked")
+    private static long number(final Map<String, Object> object, final String... path) {
+        Object value = object;
+        for (final String key : path) {
+            if (!(value instanceof Map)) {
+                return 0;
+            }
+            value = ((Map<String, Object>) value).get(key);
+        }
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> object(final Map<String, Object> object, final String... path) {
+        Object value = object;
+        for (final String key : path) {
+            if (!(value instanceof Map)) {
+                return Map.of();
+            }
+            value = ((Map<String, Object>) value).get(key);
+        }
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+
+    private static final class Builder {
+        private int nodes;
+        private long timestamp;
+        private long documents;
+        private long indexed;
+        private long indexingTime;
+        private long queries;
+        private long queryTime;
+        private long fetches;
+        private long merges;
+        private long mergeTime;
+        private long refreshes;
+        private long segments;
+        private long queryCacheHits;
+        private long queryCacheMisses;
+        private long requestCacheHits;
+        private long requestCacheMisses;
+        private long gcCount;
+        private long gcTime;
+        private long heapUsed;
+        private long heapMax;
+        private final Map<String, Long> rejections = new TreeMap<>();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The difference between two snapshots of the node statistics (see please {@link OpenSearchStats}): the
+ * indexing and search rates, the merges, the garbage collection time, the cache hit ratios and the thread pool
+ * rejections happened in between.
+ */
+public final class OpenSearchStatsDelta {
+    private final OpenSearchStats before;
+    private final OpenSearchStats after;
+
+    OpenSearchStatsDelta(final OpenSearchStats before, final OpenSearchStats after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Return the earlier snapshot
+     * @return the earlier snapshot
+     */
+    public OpenSearchStats getBefore() {
+        return before;
+    }
+
+    /**
+     * Return the later snapshot
+     * @return the later snapshot
+     */
+    public OpenSearchStats getAfter() {
+        return after;
+    }
+
+    /**
+     * Return the time elapsed between the snapshots (by the node clock)
+     * @return the time elapsed between the snapshots
+     */
+    public Duration getDuration() {
+        return Duration.ofMillis(Math.max(after.getTimestamp() - before.getTimestamp(), 0));
+    }
+
+    /**
+     * Return the number of indexing operations
+     * @return the number of indexing operations
+     */
+    public long getIndexed() {
+        return after.getIndexed() - before.getIndexed();
+    }
+
+    /**
+     * Return the indexing rate
+     * @return the number of indexing operations per second
+     */
+    public double getIndexingRate() {
+        return rate(getIndexed());
+    }
+
+    /**
+     * Return the number of queries (per shard)
+     * @return the number of queries
+     */
+    public long getQueries() {
+        return after.getQueries() - before.getQueries();
+    }
+
+    /**
+     * Return the search rate
+     * @return the number of queries (per shard) per second
+     */
+    public double getSearchRate() {
+        return rate(getQueries());
+    }
+
+    /**
+     * Return the mean query time (per shard)
+     * @return the mean query time (or zero if there were no queries)
+     */
+    public Duration getMeanQueryTime() {
+        final long queries = getQueries();
+        final long queryTime = after.getQueryTimeInMillis() - before.getQueryTimeInMillis();
+        return queries == 0 ? Duration.ZERO : Duration.ofNanos(queryTime * 1_000_000 / queries);
+    }
+
+    /**
+     * Return the number of merges
+     * @return the number of merges
+     */
+    public long getMerges() {
+        return after.getMerges() - before.getMerges();
+    }
+
+    /**
+     * Return the time spent on merges
+     * @return the time spent on merges
+     */
+    public Duration getMergeTime() {
+        return Duration.ofMillis(after.getMergeTimeInMillis() - before.getMergeTimeInMillis());
+    }
+
+    /**
+     * Return the change of the number of segments
+     * @return the change of the number of segments (negative if the segments were merged)
+     */
+    public long getSegmentsChange() {
+        return after.getSegments() - before.getSegments();
+    }
+
+    /**
+     * Return the number of garbage collections (all collectors)
+     * @return the number of garbage collections
+     */
+    public long getGcCount() {
+        return after.getGcCount() - before.getGcCount();
+    }
+
+    /**
+     * Return the time spent on garbage collections (all collectors)
+     * @return the time spent on garbage collections
+     */
+    public Duration getGcTime() {
+        return Duration.ofMillis(after.getGcTimeInMillis() - before.getGcTimeInMillis());
+    }
+
+    /**
+     * Return the query cache hit ratio
+     * @return the query cache hit ratio (from 0 to 1), or {@link Double#NaN} if the cache was not used
+     */
+    public double getQueryCacheHitRatio() {
+        return ratio(
+                after.getQueryCacheHits() - before.getQueryCacheHits(),
+                after.getQueryCacheMisses() - before.getQueryCacheMisses());
+    }
+
+    /**
+     * Return the request cache hit ratio
+     * @return the request cache hit ratio (from 0 to 1), or {@link Double#NaN} if the cache was not used
+     */
+    public double getRequestCacheHitRatio() {
+        return ratio(
+                after.getRequestCacheHits() - before.getRequestCacheHits(),
+                after.getRequestCacheMisses() - before.getRequestCacheMisses());
+    }
+
+    /**
+     * Return the number of rejected tasks (all thread pools)
+     * @return the number of rejected tasks
+     */
+    public long getRejections() {
+        return getRejectionsByThreadPool().values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * Return the number of rejected tasks per thread pool (only the thread pools with rejections are included)
+     * @return the number of rejected tasks per thread pool (by thread pool name)
+     */
+    public Map<String, Long> getRejectionsByThreadPool() {
+        final Map<String, Long> rejections = new TreeMap<>();
+        for (final Map.Entry<String, Long> pool : after.getRejections().entrySet()) {
+            final long rejected = pool.getValue() - before.getRejections().getOrDefault(pool.getKey(), 0L);
+            if (rejected > 0) {
+                rejections.put(pool.getKey(), rejected);
+            }
+        }
+        return rejections;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "OpenSearchStatsDelta{duration=%s, indexingRate=%.1f/s, searchRate=%.1f/s, merges=%d, gcTime=%s, "
+                        + "queryCacheHitRatio=%.2f, requestCacheHitRatio=%.2f, rejections=%s}",
+                getDuration(),
+                getIndexingRate(),
+                getSearchRate(),
+                getMerges(),
+                getGcTime(),
+                getQueryCacheHitRatio(),
+                getRequestCacheHitRatio(),
+                getRejectionsByThreadPool());
+    }
+
+    private double rate(long count) {
+        return count * 1000d / Math.max(getDuration().toMillis(), 1);
+    }
+
+    private static double ratio(long hits, long misses) {
+        return hits + misses == 0 ? Double.NaN : (double) hits / (hits + misses);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * The JUnit 5 test class backed by the pool of the shared OpenSearch containers (see please
+ * {@link OpenSearchTestExtension}): every test class leases the least loaded container of the pool for all its
+ * tests, the lease ({@link OpenSearchLease}), its HTTP(s) client ({@link OpenSearchHttpClient}) and the
+ * container itself ({@link OpenSearchContainer}) could be injected as the test (or lifecycle) method and
+ * constructor parameters:
+ *
+ *      &#64;OpenSearchTest("2.19.1")
+ *      class BooksTest {
+ *          &#64;Test
+ *          void search(final OpenSearchLease&lt;OpenSearchContainer&lt;?&gt;&gt; lease) {
+ *              final String index = lease.prefixed("books");
+ *              ...
+ *          }
+ *      }
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@ExtendWith(OpenSearchTestExtension.class)
+public @interface OpenSearchTest {
+    /**
+     * The OpenSearch version, like "2.19.1"
+     * @return the OpenSearch version
+     */
+    String value();
+
+    /**
+     * Should the security plugin be enabled or stay disabled (default value)
+     * @return "true" if the security plugin should be enabled, "false" otherwise
+     */
+    boolean security() default false;
+
+    /**
+     * The JVM heap size of the containers, like 512m or 1g (the image default if not set)
+     * @return the JVM heap size
+     */
+    String heapSize() default "";
+
+    /**
+     * The maximum number of containers of the pool (started on demand), sized from the Docker host capacity
+     * (CPUs and memory) left by the pools of the other configurations if not set
+     * @return the maximum number of containers of the pool or 0 to size it from the Docker host capacity
+     */
+    int poolSize() default 0;
+}
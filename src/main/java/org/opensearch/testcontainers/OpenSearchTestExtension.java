@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * The JUnit 5 extension behind {@link OpenSearchTest}: every test class leases the least loaded container of the
+ * pool (see please {@link OpenSearchContainerPool}) before all its tests and closes the lease (deleting everything
+ * under the lease prefix) after all of them, the nested test classes share the lease of the enclosing one. The
+ * pools are shared by all test classes of the same configuration in the same JVM, so the test classes run in
+ * parallel are spread over the containers:
+ *
+ *      junit.jupiter.execution.parallel.enabled = true
+ *      junit.jupiter.execution.parallel.mode.classes.default = concurrent
+ *
+ * The containers are started on demand (under the shared {@link OpenSearchStartScheduler}, so the Docker host is
+ * not overloaded) and are stopped when JVM exits. The pools of the different configurations share the capacity
+ * of the Docker host, every pool is sized from the capacity left by the pools created before it.
+ */
+public final class OpenSearchTestExtension implements BeforeAllCallback, AfterAllCallback, ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(OpenSearchTestExtension.class);
+    private static final String LEASE = "lease";
+
+    // The pools by configuration (sized once, when the pool is created, from the budget of the start scheduler)
+    private static final Map<String, OpenSearchContainerPool<OpenSearchContainer<?>>> POOLS =
+            new ConcurrentHashMap<>();
+
+    // The start scheduler shared by all pools, created lazily (it queries the Docker host capacity)
+    private static volatile OpenSearchStartScheduler startScheduler;
+
+    @Override
+    public void beforeAll(final ExtensionContext context) {
+        lease(context);
+    }
+
+    @Override
+    public void afterAll(final ExtensionContext context) {
+        // The lease of the enclosing test class (if any) is not removed by the nested one
+        final OpenSearchLease<?> lease = context.getStore(NAMESPACE).remove(LEASE, OpenSearchLease.class);
+        if (lease != null) {
+            lease.close();
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(final ParameterContext parameterContext, final ExtensionContext context) {
+        final Class<?> type = parameterContext.getParameter().getType();
+        return type == OpenSearchLease.class || type == OpenSearchHttpClient.class || type == OpenSearchContainer.class;
+    }
+
+    @Override
+    public Object resolveParameter(final ParameterContext parameterContext, final ExtensionContext context) {
+        final OpenSearchLease<OpenSearchContainer<?>> lease = lease(context);
+        final Class<?> type = parameterContext.getParameter().getType();
+        if (type == OpenSearchLease.class) {
+            return lease;
+        } else if (type == OpenSearchHttpClient.class) {
+            return lease.getHttpClient();
+        } else if (type == OpenSearchContainer.class) {
+            return lease.getTarget();
+        }
+        throw new ParameterResolutionException("The parameter of type " + type.getName() + " is not supported");
+    }
+
+    // The lease is taken once per (top level) test class: before all tests or when the test instance is
+    // constructed, whatever comes first (the latter is the case for the "per class" test instance lifecycle),
+    // atomically. The stores of the enclosing test classes are looked up too, so the nested ones share the lease.
+    @SuppressWarnings("unchecked")
+    private static OpenSearchLease<OpenSearchContainer<?>> lease(final ExtensionContext context) {
+        final Class<?> testClass = context.getRequiredTestClass();
+        return classContext(context)
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(LEASE, key -> newLease(testClass), OpenSearchLease.class);
+    }
+
+    private static OpenSearchLease<OpenSearchContainer<?>> newLease(final Class<?> testClass) {
+        final OpenSearchTest annotation = AnnotationSupport.findAnnotation(testClass, OpenSearchTest.class)
+                .orElseThrow(() -> new ExtensionConfigurationException(
+                        "The test class " + testClass.getName() + " is not annotated with @OpenSearchTest"));
+        return pool(annotation).lease();
+    }
+
+    private static ExtensionContext classContext(final ExtensionContext context) {
+        ExtensionContext classContext = context;
+        while (classContext.getTestMethod().isPresent()) {
+            classContext = classContext.getParent().orElseThrow();
+        }
+        return classContext;
+    }
+
+    private static OpenSearchContainerPool<OpenSearchContainer<?>> pool(final OpenSearchTest annotation) {
+        final String key = "junit:" + annotation.value() + ":security=" + annotation.security() + ":heap="
+                + annotation.heapSize() + ":size=" + annotation.poolSize();
+        return POOLS.computeIfAbsent(key, k -> {
+            final OpenSearchResourceProfile resourceProfile = annotation.heapSize().isEmpty()
+                    ? OpenSearchResourceProfile.none()
+                    : OpenSearchResourceProfile.none().withHeapSize(annotation.heapSize());
+
+            final Supplier<OpenSearchContainer<?>> factory = () -> {
+                final OpenSearchContainer<?> container =
+                        new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion(annotation.value()));
+                if (annotation.security()) {
+                    container.withSecurityEnabled();
+                }
+                return container;
+            };
+
+            // All pools share the capacity of the Docker host (the pooled containers are stopped when JVM exits)
+            return OpenSearchContainerPool.containers(
+                    k, factory, annotation.poolSize(), startScheduler(), resourceProfile);
+        });
+    }
+
+    private static OpenSearchStartScheduler startScheduler() {
+        OpenSearchStartScheduler current = startScheduler;
+        if (current == null) {
+            synchronized (OpenSearchTestExtension.class) {
+                current = startScheduler;
+                if (current == null) {
+                    current = OpenSearchStartScheduler.forDockerHost();
+                    startScheduler = current;
+                }
+            }
+        }
+        return current;
+    }
+}
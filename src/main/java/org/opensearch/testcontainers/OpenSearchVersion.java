@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * The OpenSearch version, parsed from the Docker image tag (like "2.19.1", "3.0.0-beta1", "2.12.0-SNAPSHOT",
+ * "2" or "latest"), which drives the version-gated behavior of the containers. The missing minor or patch parts
+ * (the floating tags, like "2") and "latest" tag are considered the most recent ones.
+ *
+ *      OpenSearchVersion.parse("2.19.1").isOnOrAfter(2, 12)
+ */
+public final class OpenSearchVersion implements Comparable<OpenSearchVersion> {
+    private static final Pattern VERSION =
+            Pattern.compile("^(\\d+)(?:[.](\\d+))?(?:[.](\\d+))?(?:-([A-Za-z0-9.]+))?$");
+    // The qualifiers are compared part by part: the numbers numerically (so "beta2" precedes "beta10")
+    private static final Pattern QUALIFIER_PART = Pattern.compile("\\d+|\\D+");
+    private static final String LATEST = "latest";
+    private static final int MOST_RECENT = Integer.MAX_VALUE;
+
+    private final int major;
+    private final int minor;
+    private final int patch;
+    private final String qualifier;
+    private final String version;
+
+    private OpenSearchVersion(int major, int minor, int patch, final String qualifier, final String version) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.qualifier = qualifier;
+        this.version = version;
+    }
+
+    /**
+     * Parse the version
+     * @param version the version, like "2.19.1", "3.0.0-beta1", "2.12.0-SNAPSHOT", "2" or "latest"
+     * @return the parsed version
+     * @throws IllegalArgumentException if the version could not be parsed
+     */
+    public static OpenSearchVersion parse(final String version) {
+        return tryParse(version)
+                .orElseThrow(() -> new IllegalArgumentException("Unable to parse OpenSearch version: " + version));
+    }
+
+    /**
+     * Return the version of the OpenSearch Docker image (from its tag)
+     * @param dockerImageName the OpenSearch Docker image
+     * @return the version or empty if the image tag is not a version (like the digest or custom tag)
+     */
+    public static Optional<OpenSearchVersion> of(final DockerImageName dockerImageName) {
+        return tryParse(dockerImageName.getVersionPart());
+    }
+
+    private static Optional<OpenSearchVersion> tryParse(final String version) {
+        if (version == null) {
+            return Optional.empty();
+        } else if (LATEST.equals(version)) {
+            return Optional.of(new OpenSearchVersion(MOST_RECENT, MOST_RECENT, MOST_RECENT, null, version));
+        }
+
+        final Matcher matcher = VERSION.matcher(version);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new OpenSearchVersion(
+                    Integer.parseInt(matcher.group(1)),
+                    matcher.group(2) == null ? MOST_RECENT : Integer.parseInt(matcher.group(2)),
+                    matcher.group(3) == null ? MOST_RECENT : Integer.parseInt(matcher.group(3)),
+                    matcher.group(4),
+                    version));
+        } catch (final NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Check if this version is the given major.minor version or later (the pre-releases and snapshots of the
+     * given version are included)
+     * @param major the major version
+     * @param minor the minor version
+     * @return "true" if this version is the given version or later, "false" otherwise
+     */
+    public boolean isOnOrAfter(int major, int minor) {
+        return this.major != major ? this.major > major : this.minor >= minor;
+    }
+
+    /**
+     * Check if this version precedes the given major.minor version (the pre-releases and snapshots of the given
+     * version are not considered preceding)
+     * @param major the major version
+     * @param minor the minor version
+     * @return "true" if this version precedes the given version, "false" otherwise
+     */
+    public boolean isBefore(int major, int minor) {
+        return !isOnOrAfter(major, minor);
+    }
+
+    /**
+     * Return the major version
+     * @return the major version
+     */
+    public int getMajor() {
+        return major;
+    }
+
+    /**
+     * Return the minor version
+     * @return the minor version ({@link Integer#MAX_VALUE} if not specified)
+     */
+    public int getMinor() {
+        return minor;
+    }
+
+    /**
+     * Return the patch version
+     * @return the patch version ({@link Integer#MAX_VALUE} if not specified)
+     */
+    public int getPatch() {
+        return patch;
+    }
+
+    /**
+     * Return the qualifier, like "SNAPSHOT" or "beta1"
+     * @return the qualifier or empty for the releases
+     */
+    public Optional<String> getQualifier() {
+        return Optional.ofNullable(qualifier);
+    }
+
+    /**
+     * Check if this version is the "latest" one
+     * @return "true" if this version is the "latest" one, "false" otherwise
+     */
+    public boolean isLatest() {
+        return LATEST.equals(version);
+    }
+
+    // The initial admin password is required starting from OpenSearch 2.12.0
+    boolean requiresInitialAdminPassword() {
+        return isOnOrAfter(2, 12);
+    }
+
+    // The "master" terminology has been replaced by "cluster_manager" in OpenSearch 2.0.0
+    boolean usesClusterManagerTerminology() {
+        return isOnOrAfter(2, 0);
+    }
+
+    // The security configuration (YAML files) has been moved from the plugin folder to config folder in 2.0.0
+    boolean hasSecurityConfigInConfigPath() {
+        return isOnOrAfter(2, 0);
+    }
+
+    @Override
+    public int compareTo(final OpenSearchVersion other) {
+        int result = Integer.compare(major, other.major);
+        if (result == 0) {
+            result = Integer.compare(minor, other.minor);
+        }
+        if (result == 0) {
+            result = Integer.compare(patch, other.patch);
+        }
+        if (result == 0 && !Objects.equals(qualifier, other.qualifier)) {
+            // The pre-releases (alpha, beta, rc) and snapshots precede the release
+            if (qualifier == null || other.qualifier == null) {
+                result = qualifier == null ? 1 : -1;
+            } else {
+                result = compareQualifiers(qualifier, other.qualifier);
+            }
+        }
+        return result;
+    }
+
+    private static int compareQualifiers(final String qualifier, final String other) {
+        final Matcher parts = QUALIFIER_PART.matcher(qualifier);
+        final Matcher otherParts = QUALIFIER_PART.matcher(other);
+        while (parts.find()) {
+            if (!otherParts.find()) {
+                return 1; /* the longer qualifier follows, like "rc1.1" after "rc1" */
+            }
+
+            final String part = parts.group();
+            final String otherPart = otherParts.group();
+            final int result;
+            if (Character.isDigit(part.charAt(0)) && Character.isDigit(otherPart.charAt(0))) {
+                result = new BigInteger(part).compareTo(new BigInteger(otherPart));
+            } else {
+                result = part.toLowerCase(Locale.ROOT).compareTo(otherPart.toLowerCase(Locale.ROOT));
+            }
+
+            if (result != 0) {
+                return result;
+            }
+        }
+        return otherParts.find() ? -1 : 0;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof OpenSearchVersion)) {
+            return false;
+        }
+
+        final OpenSearchVersion other = (OpenSearchVersion) obj;
+        return major == other.major
+                && minor == other.minor
+                && patch == other.patch
+                && Objects.equals(qualifier, other.qualifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(major, minor, patch, qualifier);
+    }
+
+    @Override
+    public String toString() {
+        return version;
+    }
+}
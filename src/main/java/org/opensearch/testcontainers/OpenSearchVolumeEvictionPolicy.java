@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+/**
+ * The eviction policy of the persistent data volumes (see please
+ * {@link OpenSearchContainer#withPersistentDataVolume(String, OpenSearchVolumeEvictionPolicy)}): the least
+ * recently used volumes are removed once the number of volumes or their total size exceeds the limits. The
+ * policy is immutable, every {@code with*} method returns a new instance.
+ *
+ *      OpenSearchVolumeEvictionPolicy.lru().withMaxVolumes(5).withMaxTotalSize("50g")
+ */
+public final class OpenSearchVolumeEvictionPolicy {
+    private static final OpenSearchVolumeEvictionPolicy LRU =
+            new OpenSearchVolumeEvictionPolicy(10, OpenSearchResourceProfile.parseSize("20g"));
+
+    private final int maxVolumes;
+    private final long maxTotalSize;
+
+    private OpenSearchVolumeEvictionPolicy(int maxVolumes, long maxTotalSize) {
+        this.maxVolumes = maxVolumes;
+        this.maxTotalSize = maxTotalSize;
+    }
+
+    /**
+     * The least recently used eviction policy, keeping at most 10 volumes of 20g in total.
+     * @return the least recently used eviction policy
+     */
+    public static OpenSearchVolumeEvictionPolicy lru() {
+        return LRU;
+    }
+
+    /**
+     * Set the maximum number of the persistent data volumes to keep.
+     * @param maxVolumes maximum number of volumes (at least 1)
+     * @return new policy instance
+     */
+    public OpenSearchVolumeEvictionPolicy withMaxVolumes(int maxVolumes) {
+        if (maxVolumes < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of volumes should be positive but got " + maxVolumes);
+        }
+        return new OpenSearchVolumeEvictionPolicy(maxVolumes, maxTotalSize);
+    }
+
+    /**
+     * Set the maximum total size of the persistent data volumes to keep.
+     * @param maxTotalSize maximum total size, like 512m or 20g
+     * @return new policy instance
+     */
+    public OpenSearchVolumeEvictionPolicy withMaxTotalSize(final String maxTotalSize) {
+        return new OpenSearchVolumeEvictionPolicy(maxVolumes, OpenSearchResourceProfile.parseSize(maxTotalSize));
+    }
+
+    /**
+     * Return the maximum number of the persistent data volumes to keep
+     * @return the maximum number of the persistent data volumes to keep
+     */
+    public int getMaxVolumes() {
+        return maxVolumes;
+    }
+
+    /**
+     * Return the maximum total size of the persistent data volumes to keep
+     * @return the maximum total size of the persistent data volumes to keep, in bytes
+     */
+    public long getMaxTotalSize() {
+        return maxTotalSize;
+    }
+
+    @Override
+    public String toString() {
+        return "OpenSearchVolumeEvictionPolicy{maxVolumes=" + maxVolumes + ", maxTotalSize=" + maxTotalSize + "}";
+    }
+}
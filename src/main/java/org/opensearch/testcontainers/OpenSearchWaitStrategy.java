@@ -0,0 +1,243 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.output.FrameConsumerResultCallback;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+/**
+ * The OpenSearch readiness check: first watches the container log for the node "started" marker (and, if
+ * security plugin is enabled, for the security index initialization marker), then confirms the readiness
+ * by querying the cluster health endpoint. The cluster health is polled with the exponential backoff (starting
+ * from 50ms, up to 1s), letting OpenSearch itself to wait for the desired status in between.
+ *
+ * The wait strategy could be used only with {@link OpenSearchContainer} instances.
+ */
+public class OpenSearchWaitStrategy extends AbstractWaitStrategy {
+    // The "started" marker logged by every node once it has joined the cluster and bound the HTTP port
+    static final Pattern NODE_STARTED =
+            Pattern.compile("\\[o\\.o\\.n\\.Node\\s*\\].* started\\s*$", Pattern.MULTILINE);
+    // The marker logged by the security plugin once the security configuration has been loaded
+    static final Pattern SECURITY_INITIALIZED =
+            Pattern.compile("Node '.*' initialized\\s*$", Pattern.MULTILINE);
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(50);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(1);
+    // How long OpenSearch waits for the desired cluster status before responding
+    private static final Duration HEALTH_TIMEOUT = Duration.ofSeconds(5);
+
+    private String clusterStatus = "yellow";
+    private int numberOfNodes = 0;
+    private boolean noRelocatingShards = false;
+    private boolean logMarkers = true;
+    private boolean clusterHealth = true;
+
+    /**
+     * Create the wait strategy with the default timeout of 5 minutes
+     */
+    public OpenSearchWaitStrategy() {
+        withStartupTimeout(Duration.ofMinutes(5));
+    }
+
+    /**
+     * Wait for the cluster to reach at least the given status ("yellow" by default).
+     * @param clusterStatus cluster status: "green", "yellow" or "red"
+     * @return this wait strategy instance
+     */
+    public OpenSearchWaitStrategy forClusterStatus(final String clusterStatus) {
+        this.clusterStatus = clusterStatus;
+        return this;
+    }
+
+    /**
+     * Wait for the cluster to have the given number of nodes joined (not checked by default).
+     * @param numberOfNodes number of nodes
+     * @return this wait strategy instance
+     */
+    public OpenSearchWaitStrategy forNumberOfNodes(int numberOfNodes) {
+        this.numberOfNodes = numberOfNodes;
+        return this;
+    }
+
+    /**
+     * Wait for no shards to be relocating (nor initializing), once the pending cluster state updates (like the
+     * rerouting caused by the node joined or left) have been applied (not checked by default).
+     * @return this wait strategy instance
+     */
+    public OpenSearchWaitStrategy forNoRelocatingShards() {
+        this.noRelocatingShards = true;
+        return this;
+    }
+
+    /**
+     * Should the container log be watched for the startup markers or not (enabled by default).
+     * @param logMarkers "true" to watch the log, "false" otherwise
+     * @return this wait strategy instance
+     */
+    public OpenSearchWaitStrategy withLogMarkers(boolean logMarkers) {
+        this.logMarkers = logMarkers;
+        return this;
+    }
+
+    /**
+     * Should the cluster health be checked or not (enabled by default).
+     * @param clusterHealth "true" to check the cluster health, "false" otherwise
+     * @return this wait strategy instance
+     */
+    public OpenSearchWaitStrategy withClusterHealth(boolean clusterHealth) {
+        this.clusterHealth = clusterHealth;
+        return this;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        if (!(waitStrategyTarget instanceof OpenSearchContainer)) {
+            throw new IllegalArgumentException(
+                    "The OpenSearchWaitStrategy could only be used with OpenSearchContainer instances");
+        }
+
+        final OpenSearchContainer<?> container = (OpenSearchContainer<?>) waitStrategyTarget;
+        final long deadline = System.nanoTime() + startupTimeout.toNanos();
+
+        if (logMarkers) {
+            waitForLogMarkers(container, deadline);
+        }
+
+        if (clusterHealth) {
+            waitForClusterHealth(container, deadline);
+        }
+    }
+
+    private void waitForLogMarkers(final OpenSearchContainer<?> container, long deadline) {
+        final List<Pattern> markers = new ArrayList<>();
+        markers.add(NODE_STARTED);
+        if (container.isSecurityEnabled()) {
+            markers.add(SECURITY_INITIALIZED);
+        }
+
+        final LogMarkersConsumer consumer = new LogMarkersConsumer(markers);
+        try (FrameConsumerResultCallback callback = new FrameConsumerResultCallback()) {
+            callback.addConsumer(OutputFrame.OutputType.STDOUT, consumer);
+            callback.addConsumer(OutputFrame.OutputType.STDERR, consumer);
+
+            container
+                    .getDockerClient()
+                    .logContainerCmd(container.getContainerId())
+                    .withFollowStream(true)
+                    .withSince(0)
+                    .withStdOut(true)
+                    .withStdErr(true)
+                    .exec(callback);
+
+            if (!consumer.await(deadline)) {
+                throw new ContainerLaunchException("Timed out waiting for OpenSearch startup markers in the log: "
+                        + consumer.getRemaining());
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void waitForClusterHealth(final OpenSearchContainer<?> container, long deadline) {
+        final OpenSearchHttpClient client = container.getHttpClient();
+
+        final StringBuilder path = new StringBuilder("/_cluster/health?wait_for_status=")
+                .append(clusterStatus)
+                .append("&timeout=")
+                .append(HEALTH_TIMEOUT.toSeconds())
+                .append("s");
+        if (numberOfNodes > 0) {
+            path.append("&wait_for_nodes=").append(numberOfNodes);
+        }
+        if (noRelocatingShards) {
+            path.append("&wait_for_no_relocating_shards=true&wait_for_no_initializing_shards=true")
+                    .append("&wait_for_events=languid");
+        }
+
+        long backoff = INITIAL_BACKOFF.toNanos();
+        String lastFailure = null;
+        while (System.nanoTime() < deadline) {
+            try {
+                final OpenSearchHttpClient.Response response =
+                        client.execute("GET", path.toString(), null, HEALTH_TIMEOUT.plus(HEALTH_TIMEOUT));
+                if (response.getStatusCode() == HTTP_OK) {
+                    return;
+                }
+
+                // The OpenSearch is up but the security index may not be initialized yet (503 / 401)
+                // or the cluster did not reach the desired status in time (408)
+                lastFailure = "HTTP " + response.getStatusCode() + ": " + response.getBody();
+            } catch (final UncheckedIOException ex) {
+                lastFailure = ex.getCause().toString();
+            }
+
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.min(backoff, remaining));
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ContainerLaunchException("Interrupted while waiting for the OpenSearch cluster health", ex);
+            }
+
+            backoff = Math.min(backoff * 2, MAX_BACKOFF.toNanos());
+        }
+
+        throw new ContainerLaunchException("Timed out waiting for OpenSearch cluster health (status="
+                + clusterStatus + "), last failure: " + lastFailure);
+    }
+
+    // Counts down once every marker has been seen in the log at least once
+    private static final class LogMarkersConsumer implements Consumer<OutputFrame> {
+        private final List<Pattern> remaining;
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        LogMarkersConsumer(final List<Pattern> markers) {
+            this.remaining = new ArrayList<>(markers);
+        }
+
+        @Override
+        public void accept(final OutputFrame frame) {
+            final String line = frame.getUtf8String();
+            synchronized (remaining) {
+                if (remaining.removeIf(marker -> marker.matcher(line).find()) && remaining.isEmpty()) {
+                    latch.countDown();
+                }
+            }
+        }
+
+        boolean await(long deadline) {
+            try {
+                return latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ContainerLaunchException("Interrupted while waiting for OpenSearch startup markers", ex);
+            }
+        }
+
+        String getRemaining() {
+            synchronized (remaining) {
+                return remaining.toString();
+            }
+        }
+    }
+}
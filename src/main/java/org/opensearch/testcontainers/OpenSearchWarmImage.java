@@ -0,0 +1,232 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.ContainerConfig;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * The "warm" OpenSearch image: the image derived from the official one, with the fixtures (index templates,
+ * ingest pipelines, ISM policies, cluster settings and locally supplied plugins) already applied. The warm
+ * image is built once (the first time it is resolved), tagged by the hash of the base image and all the
+ * fixtures, and reused afterwards:
+ *
+ *      final DockerImageName image = OpenSearchDockerImage.warm(OpenSearchDockerImage.ofVersion("2.19.1"))
+ *          .withPlugin(Path.of("build/distributions/my-plugin.zip"))
+ *          .withIndexTemplate("logs", "{\"index_patterns\": [\"logs-*\"], ...}")
+ *          .resolve();
+ *
+ *      new OpenSearchContainer&lt;&gt;(image)
+ *
+ * Please note that the warm images carry the cluster state (and node identity) in the data path, so they are
+ * meant to be used for single node containers only. For the same reason, the warm images could not be combined
+ * with the in-memory data path or the persistent data volume (both are mounted over the data path and would hide
+ * the baked fixtures).
+ */
+public final class OpenSearchWarmImage {
+    private static final String DATA_PATH = "/usr/share/opensearch/data";
+    // The label the warm images are committed with
+    private static final String WARM_LABEL = "org.opensearch.testcontainers.warm";
+    private static final String PLUGINS_PATH = "/tmp/plugins/";
+    private static final String OPENSEARCH_PLUGIN = "/usr/share/opensearch/bin/opensearch-plugin";
+
+    private final DockerImageName baseImageName;
+    private final List<Path> plugins = new ArrayList<>();
+    private final List<String[]> requests = new ArrayList<>();
+
+    OpenSearchWarmImage(final DockerImageName baseImageName) {
+        this.baseImageName = baseImageName;
+    }
+
+    /**
+     * Install the plugin from the local zip file (no network access is needed).
+     * @param plugin path to plugin zip file
+     * @return this warm image instance
+     */
+    public OpenSearchWarmImage withPlugin(final Path plugin) {
+        if (!Files.isRegularFile(plugin)) {
+            throw new IllegalArgumentException("The plugin file " + plugin + " does not exist");
+        }
+        plugins.add(plugin);
+        return this;
+    }
+
+    /**
+     * Create the (composable) index template.
+     * @param name index template name
+     * @param template index template (JSON)
+     * @return this warm image instance
+     */
+    public OpenSearchWarmImage withIndexTemplate(final String name, final String template) {
+        return withRequest("PUT", "/_index_template/" + name, template);
+    }
+
+    /**
+     * Create the ingest pipeline.
+     * @param name ingest pipeline name
+     * @param pipeline ingest pipeline (JSON)
+     * @return this warm image instance
+     */
+    public OpenSearchWarmImage withIngestPipeline(final String name, final String pipeline) {
+        return withRequest("PUT", "/_ingest/pipeline/" + name, pipeline);
+    }
+
+    /**
+     * Create the Index State Management (ISM) policy (requires opensearch-index-management plugin).
+     * @param name ISM policy name
+     * @param policy ISM policy (JSON)
+     * @return this warm image instance
+     */
+    public OpenSearchWarmImage withIsmPolicy(final String name, final String policy) {
+        return withRequest("PUT", "/_plugins/_ism/policies/" + name, policy);
+    }
+
+    /**
+     * Update the cluster settings.
+     * @param settings cluster settings (JSON), like {"persistent": {...}}
+     * @return this warm image instance
+     */
+    public OpenSearchWarmImage withClusterSettings(final String settings) {
+        return withRequest("PUT", "/_cluster/settings", settings);
+    }
+
+    /**
+     * Execute an arbitrary request (applied in order, after all other fixtures which were added before).
+     * @param method HTTP method
+     * @param path request path
+     * @param body request body (JSON), could be {@code null}
+     * @return this warm image instance
+     */
+    public OpenSearchWarmImage withRequest(final String method, final String path, final String body) {
+        requests.add(new String[] {method, path, body == null ? "" : body});
+        return this;
+    }
+
+    /**
+     * Resolve the warm image: build it if it is not present locally yet.
+     * @return warm image name (compatible with {@link OpenSearchContainer})
+     */
+    public DockerImageName resolve() {
+        final List<String> inputs = new ArrayList<>();
+        inputs.add(OpenSearchDerivedImages.imageId(baseImageName));
+        for (final Path plugin : plugins) {
+            inputs.add(OpenSearchDerivedImages.hash(plugin));
+        }
+        for (final String[] request : requests) {
+            inputs.add(String.join(" ", request));
+        }
+
+        // The hash goes into the repository name so the tag stays the OpenSearch version
+        final String hash = OpenSearchDerivedImages.hash(inputs.toArray(new String[0]));
+        final String repository = OpenSearchDerivedImages.REPOSITORY + "/opensearch-warm-" + hash;
+        final String version = baseImageName.getVersionPart();
+        final String image = repository + ":" + version;
+
+        if (!OpenSearchDerivedImages.exists(image)) {
+            final String pluginsImage = plugins.isEmpty() ? baseImageName.asCanonicalNameString() : buildPlugins(hash);
+            if (requests.isEmpty()) {
+                return compatible(pluginsImage);
+            }
+            bake(pluginsImage, repository, version);
+        }
+
+        return compatible(image);
+    }
+
+    private String buildPlugins(final String hash) {
+        final String image = OpenSearchDerivedImages.REPOSITORY + "/opensearch-warm-plugins-" + hash + ":"
+                + baseImageName.getVersionPart();
+
+        return OpenSearchDerivedImages.resolve(image, () -> {
+            final ImageFromDockerfile dockerfile = OpenSearchDerivedImages.dockerfile(image);
+            final List<String> install = new ArrayList<>();
+            for (int i = 0; i < plugins.size(); ++i) {
+                final String file = "plugin-" + i + ".zip";
+                dockerfile.withFileFromPath(file, plugins.get(i));
+                install.add(OPENSEARCH_PLUGIN + " install --batch file://" + PLUGINS_PATH + file);
+            }
+
+            return dockerfile.withDockerfileFromBuilder(builder -> {
+                builder.from(baseImageName.asCanonicalNameString());
+                for (int i = 0; i < plugins.size(); ++i) {
+                    builder.copy("plugin-" + i + ".zip", PLUGINS_PATH);
+                }
+                builder.run(String.join(" && ", install));
+                builder.build();
+            });
+        });
+    }
+
+    private void bake(final String image, final String repository, final String version) {
+        final DockerClient dockerClient = DockerClientFactory.instance().client();
+        final ContainerConfig config = dockerClient.inspectImageCmd(image).exec().getConfig();
+
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(compatible(image))) {
+            container.start();
+
+            final OpenSearchHttpClient client = container.getHttpClient();
+            for (final String[] request : requests) {
+                final OpenSearchHttpClient.Response response =
+                        client.execute(request[0], request[1], request[2].isEmpty() ? null : request[2]);
+                if (!response.isSuccessful()) {
+                    throw new IllegalStateException("Unable to apply the fixture " + request[0] + " " + request[1]
+                            + ", HTTP " + response.getStatusCode() + ": " + response.getBody());
+                }
+            }
+
+            // Flush all the changes to the data path and shut down the node gracefully before committing
+            client.execute("POST", "/_flush", null);
+            dockerClient.stopContainerCmd(container.getContainerId()).withTimeout(60).exec();
+
+            // The environment and labels of the container are reset to the image ones: the container has
+            // been configured by OpenSearchContainer (security disabled, single node discovery, ...)
+            // and labeled by the Testcontainers session (so the committed image would be cleaned up).
+            final Map<String, String> labels = new HashMap<>();
+            if (config.getLabels() != null) {
+                labels.putAll(config.getLabels());
+            }
+            labels.put(WARM_LABEL, "true");
+
+            dockerClient
+                    .commitCmd(container.getContainerId())
+                    .withRepository(repository)
+                    .withTag(version)
+                    .withEnv(config.getEnv() == null ? new String[0] : config.getEnv())
+                    .withLabels(labels)
+                    .withMessage("Warm OpenSearch image with fixtures applied to " + DATA_PATH)
+                    .exec();
+        }
+    }
+
+    /**
+     * Check if the image is the warm one (the fixtures are baked into its data path)
+     * @param image image name
+     * @return "true" if the image is the warm one, "false" otherwise
+     */
+    static boolean isWarm(final DockerImageName image) {
+        final String name = image.asCanonicalNameString();
+        if (!OpenSearchDerivedImages.exists(name)) {
+            return false; /* the warm images are built locally, so the missing image is not the warm one */
+        }
+
+        final ContainerConfig config =
+                DockerClientFactory.instance().client().inspectImageCmd(name).exec().getConfig();
+        return config != null && config.getLabels() != null && config.getLabels().containsKey(WARM_LABEL);
+    }
+
+    private static DockerImageName compatible(final String image) {
+        return DockerImageName.parse(image).asCompatibleSubstituteFor("opensearchproject/opensearch");
+    }
+}
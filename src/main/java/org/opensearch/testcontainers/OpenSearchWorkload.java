@@ -0,0 +1,336 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The embedded workload driver to run small performance smoke tests against OpenSearch container: the
+ * operations (picked randomly according to their weights) are run for the given duration, either at the
+ * target rate or as fast as possible with the given concurrency, on virtual threads (when running on JDK
+ * 21+, the platform threads otherwise).
+ *
+ *      final OpenSearchWorkloadResult result = container.workload()
+ *          .withIndexOperation("books", 1, () -> "{\"title\": \"The Lord of the Rings\"}")
+ *          .withSearchOperation("books", 9, "{\"query\": {\"match\": {\"title\": \"rings\"}}}")
+ *          .withTargetRate(200)
+ *          .withDuration(Duration.ofSeconds(30))
+ *          .run();
+ *
+ * With the target rate, the operations are scheduled at the fixed intervals (open loop) and the latency is
+ * measured from the time the operation was scheduled to start, not from the time it was actually sent. So
+ * the stalls (when the operations queue up behind the slow ones) are accounted for, instead of being hidden
+ * (the coordinated omission). The latency measured from the time the operation was actually sent is reported
+ * as the service time. Without the target rate (closed loop), both are the same.
+ */
+public final class OpenSearchWorkload {
+    private static final int MAX_CONCURRENCY = 1024;
+
+    private final OpenSearchHttpClient client;
+    private final Map<String, Operation> operations = new LinkedHashMap<>();
+    private double targetRate;
+    private int concurrency = 8;
+    private Duration warmup = Duration.ZERO;
+    private Duration duration = Duration.ofSeconds(10);
+
+    OpenSearchWorkload(final OpenSearchHttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Add the operation to the workload
+     * @param name the name of the operation (the latencies are reported per name)
+     * @param weight the relative frequency of the operation
+     * @param operation the operation, sending the request(s) with the given client; the operation fails if the
+     *      response is not successful or if it throws an exception
+     * @return this workload instance
+     */
+    public OpenSearchWorkload withOperation(
+            final String name,
+            int weight,
+            final Function<OpenSearchHttpClient, OpenSearchHttpClient.Response> operation) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("The weight should be positive but got: " + weight);
+        }
+        if (operations.putIfAbsent(name, new Operation(name, operations.size(), weight, operation)) != null) {
+            throw new IllegalArgumentException("The operation " + name + " is already defined");
+        }
+        return this;
+    }
+
+    /**
+     * Add the operation indexing the document into the index (the operation is named "index-" + index)
+     * @param index the index
+     * @param weight the relative frequency of the operation
+     * @param document the supplier of the documents (JSON) to index
+     * @return this workload instance
+     */
+    public OpenSearchWorkload withIndexOperation(final String index, int weight, final Supplier<String> document) {
+        return withOperation("index-" + index, weight, c -> c.post("/" + index + "/_doc", document.get()));
+    }
+
+    /**
+     * Add the operation running the search request against the index (the operation is named "search-" + index)
+     * @param index the index (or the comma-separated list of indices, the pattern)
+     * @param weight the relative frequency of the operation
+     * @param query the search request (JSON)
+     * @return this workload instance
+     */
+    public OpenSearchWorkload withSearchOperation(final String index, int weight, final String query) {
+        return withOperation("search-" + index, weight, c -> c.post("/" + index + "/_search", query));
+    }
+
+    /**
+     * Run the operations at the target rate, with the coordinated omission correction (by default, the
+     * operations are run as fast as possible)
+     * @param operationsPerSecond the target rate (operations per second)
+     * @return this workload instance
+     */
+    public OpenSearchWorkload withTargetRate(double operationsPerSecond) {
+        if (operationsPerSecond <= 0) {
+            throw new IllegalArgumentException("The target rate should be positive but got: " + operationsPerSecond);
+        }
+        this.targetRate = operationsPerSecond;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of the operations in flight (default is 8). With the target rate, the operations
+     * are delayed (but still accounted from their scheduled start) once the limit is reached.
+     * @param concurrency the maximum number of the operations in flight
+     * @return this workload instance
+     */
+    public OpenSearchWorkload withConcurrency(int concurrency) {
+        if (concurrency <= 0 || concurrency > MAX_CONCURRENCY) {
+            throw new IllegalArgumentException(
+                    "The concurrency should be in [1, " + MAX_CONCURRENCY + "] range but got: " + concurrency);
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Set the warmup duration: the operations are run but not measured (default is no warmup)
+     * @param warmup the warmup duration
+     * @return this workload instance
+     */
+    public OpenSearchWorkload withWarmup(final Duration warmup) {
+        if (warmup.isNegative()) {
+            throw new IllegalArgumentException("The warmup should not be negative but got: " + warmup);
+        }
+        this.warmup = warmup;
+        return this;
+    }
+
+    /**
+     * Set the measured duration (default is 10 seconds)
+     * @param duration the measured duration
+     * @return this workload instance
+     */
+    public OpenSearchWorkload withDuration(final Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("The duration should be positive but got: " + duration);
+        }
+        this.duration = duration;
+        return this;
+    }
+
+    /**
+     * Run the workload, blocking until the warmup and the measured duration elapse and all the operations in
+     * flight complete. If the target rate is not sustainable, the run takes longer than the measured duration,
+     * since all the operations scheduled within it are run.
+     * @return the throughput and the latencies of the operations
+     */
+    public OpenSearchWorkloadResult run() {
+        if (operations.isEmpty()) {
+            throw new IllegalStateException("No operations are defined, see withOperation()");
+        }
+
+        final List<Operation> weighted = new ArrayList<>(operations.values());
+        final int totalWeight = weighted.stream().mapToInt(operation -> operation.weight).sum();
+        final Stats stats = new Stats(weighted);
+        final Semaphore inFlight = new Semaphore(concurrency);
+
+        final long started = System.nanoTime();
+        final long measured = started + warmup.toNanos();
+        final long finished = measured + duration.toNanos();
+        final ExecutorService executor = newExecutor();
+        try {
+            if (targetRate > 0) {
+                // Open loop: the operations are scheduled at the fixed intervals, regardless of the responses
+                final double interval = TimeUnit.SECONDS.toNanos(1) / targetRate;
+                for (long i = 0; ; ++i) {
+                    final long scheduled = started + (long) (i * interval);
+                    if (scheduled - finished >= 0) {
+                        break;
+                    }
+
+                    for (long now = System.nanoTime(); now - scheduled < 0; now = System.nanoTime()) {
+                        LockSupport.parkNanos(scheduled - now);
+                    }
+
+                    inFlight.acquire();
+                    final Operation operation = pick(weighted, totalWeight);
+                    executor.execute(() -> {
+                        try {
+                            execute(operation, scheduled, measured, stats);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            } else {
+                // Closed loop: every worker sends the next operation as soon as the previous one completes
+                for (int i = 0; i < concurrency; ++i) {
+                    inFlight.acquire();
+                    executor.execute(() -> {
+                        try {
+                            for (long now = System.nanoTime(); now - finished < 0; now = System.nanoTime()) {
+                                execute(pick(weighted, totalWeight), now, measured, stats);
+                            }
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            }
+
+            // Wait for all in flight operations to complete
+            inFlight.acquire(concurrency);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the workload", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final Map<String, OpenSearchLatencyHistogram> latencies = new LinkedHashMap<>();
+        for (final Operation operation : weighted) {
+            latencies.put(operation.name, stats.latencies[operation.ordinal]);
+        }
+
+        return new OpenSearchWorkloadResult(
+                stats.operations.get(),
+                stats.errors.get(),
+                Duration.ofNanos(Math.max(System.nanoTime(), finished) - measured),
+                stats.latency,
+                stats.serviceTime,
+                latencies,
+                stats.firstError);
+    }
+
+    private void execute(final Operation operation, long scheduled, long measured, final Stats stats) {
+        final long sent = System.nanoTime();
+        boolean successful;
+        String error = null;
+        try {
+            final OpenSearchHttpClient.Response response = operation.operation.apply(client);
+            successful = response.isSuccessful();
+            if (!successful) {
+                error = operation.name + ": " + response;
+            }
+        } catch (final RuntimeException ex) {
+            successful = false;
+            error = operation.name + ": " + ex;
+        }
+        final long completed = System.nanoTime();
+
+        // The operations scheduled during the warmup are not measured
+        if (scheduled - measured >= 0) {
+            stats.record(operation, completed - scheduled, completed - sent, successful, error);
+        }
+    }
+
+    private static Operation pick(final List<Operation> operations, int totalWeight) {
+        if (operations.size() == 1) {
+            return operations.get(0);
+        }
+
+        int random = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (final Operation operation : operations) {
+            random -= operation.weight;
+            if (random < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    // The virtual threads are used when available (JDK 21+), the library itself targets JDK 17
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            return Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "opensearch-workload");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static final class Operation {
+        private final String name;
+        private final int ordinal;
+        private final int weight;
+        private final Function<OpenSearchHttpClient, OpenSearchHttpClient.Response> operation;
+
+        private Operation(
+                final String name,
+                int ordinal,
+                int weight,
+                final Function<OpenSearchHttpClient, OpenSearchHttpClient.Response> operation) {
+            this.name = name;
+            this.ordinal = ordinal;
+            this.weight = weight;
+            this.operation = operation;
+        }
+    }
+
+    private static final class Stats {
+        private final AtomicLong operations = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final OpenSearchLatencyHistogram latency = new OpenSearchLatencyHistogram();
+        private final OpenSearchLatencyHistogram serviceTime = new OpenSearchLatencyHistogram();
+        private final OpenSearchLatencyHistogram[] latencies;
+        private volatile String firstError;
+
+        private Stats(final List<Operation> operations) {
+            this.latencies = new OpenSearchLatencyHistogram[operations.size()];
+            for (int i = 0; i < latencies.length; ++i) {
+                latencies[i] = new OpenSearchLatencyHistogram();
+            }
+        }
+
+        private void record(
+                final Operation operation, long latency, long serviceTime, boolean successful, final String error) {
+            operations.incrementAndGet();
+            this.latency.record(latency);
+            this.serviceTime.record(serviceTime);
+            latencies[operation.ordinal].record(latency);
+
+            if (!successful) {
+                errors.incrementAndGet();
+                if (firstError == null) {
+                    firstError = error;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The outcome of the workload run (see please {@link OpenSearchWorkload}): the number of operations and
+ * errors, the throughput and the latencies (overall and per operation). The operations scheduled during the
+ * warmup are not included.
+ */
+public final class OpenSearchWorkloadResult {
+    private final long operations;
+    private final long errors;
+    private final Duration duration;
+    private final OpenSearchLatencyHistogram latency;
+    private final OpenSearchLatencyHistogram serviceTime;
+    private final Map<String, OpenSearchLatencyHistogram> latencies;
+    private final String firstError;
+
+    OpenSearchWorkloadResult(
+            long operations,
+            long errors,
+            final Duration duration,
+            final OpenSearchLatencyHistogram latency,
+            final OpenSearchLatencyHistogram serviceTime,
+            final Map<String, OpenSearchLatencyHistogram> latencies,
+            final String firstError) {
+        this.operations = operations;
+        this.errors = errors;
+        this.duration = duration;
+        this.latency = latency;
+        this.serviceTime = serviceTime;
+        this.latencies = Collections.unmodifiableMap(latencies);
+        this.firstError = firstError;
+    }
+
+    /**
+     * Return the number of operations completed (including the failed ones)
+     * @return the number of operations completed
+     */
+    public long getOperations() {
+        return operations;
+    }
+
+    /**
+     * Return the number of operations failed (not successful response or an exception)
+     * @return the number of operations failed
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Return the first error reported, if any
+     * @return the first error reported
+     */
+    public Optional<String> getFirstError() {
+        return Optional.ofNullable(firstError);
+    }
+
+    /**
+     * Return the measured duration of the run
+     * @return the measured duration of the run
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Return the throughput of the run
+     * @return the number of operations completed per second
+     */
+    public double getThroughput() {
+        final long nanos = Math.max(duration.toNanos(), 1);
+        return operations * 1_000_000_000d / nanos;
+    }
+
+    /**
+     * Return the latencies of all operations, measured from the scheduled start (so corrected for the
+     * coordinated omission when the target rate is set)
+     * @return the latencies of all operations
+     */
+    public OpenSearchLatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Return the latencies of the operations with the given name, measured from the scheduled start
+     * @param operation the name of the operation
+     * @return the latencies of the operations with the given name
+     * @throws IllegalArgumentException if there is no such operation
+     */
+    public OpenSearchLatencyHistogram getLatency(final String operation) {
+        final OpenSearchLatencyHistogram histogram = latencies.get(operation);
+        if (histogram == null) {
+            throw new IllegalArgumentException(
+                    "The operation " + operation + " is not defined, available are: " + latencies.keySet());
+        }
+        return histogram;
+    }
+
+    /**
+     * Return the service times of all operations, measured from the time the operation was actually sent
+     * (not corrected for the coordinated omission)
+     * @return the service times of all operations
+     */
+    public OpenSearchLatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(String.format(
+                "OpenSearchWorkloadResult{operations=%d, errors=%d, duration=%s, throughput=%.1f/s, latency={%s}",
+                operations, errors, duration, getThroughput(), latency));
+        for (final Map.Entry<String, OpenSearchLatencyHistogram> entry : latencies.entrySet()) {
+            sb.append(", ").append(entry.getKey()).append("={").append(entry.getValue()).append('}');
+        }
+        return sb.append('}').toString();
+    }
+}
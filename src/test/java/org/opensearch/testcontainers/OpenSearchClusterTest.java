@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.net.URISyntaxException;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.auth.AuthScope;
+import org.apache.hc.client5.http.auth.CredentialsProvider;
+import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.RestClient;
+import org.testcontainers.utility.DockerImageName;
+
+class OpenSearchClusterTest {
+    @DisplayName("Create OpenSearchCluster with security enabled")
+    @ParameterizedTest(name = "Running OpenSearch version={0} (security enabled)")
+    @MethodSource("clusters")
+    public void clusterWithSecurity(final String version, final DockerImageName image) throws Exception {
+        try (OpenSearchCluster cluster = new OpenSearchCluster(image, 3).withSecurityEnabled()) {
+            cluster.start();
+
+            try (RestClient client = getClient(cluster)) {
+                Response response = client.performRequest(new Request("GET", "/"));
+                assertThat(response.getStatusLine().getStatusCode(), is(200));
+                assertThat(EntityUtils.toString(response.getEntity()), containsString(version));
+                response = client.performRequest(new Request("GET", "/_cluster/health"));
+                assertThat(EntityUtils.toString(response.getEntity()), containsString("\"number_of_nodes\":3"));
+            }
+        }
+    }
+
+    @DisplayName("Create OpenSearchCluster with security disabled")
+    @ParameterizedTest(name = "Running OpenSearch version={0} (security disabled)")
+    @MethodSource("clusters")
+    public void cluster(final String version, final DockerImageName image) throws Exception {
+        try (OpenSearchCluster cluster = new OpenSearchCluster(image, 3)) {
+            cluster.start();
+
+            try (RestClient client = getClient(cluster)) {
+                Response response = client.performRequest(new Request("GET", "/"));
+                assertThat(response.getStatusLine().getStatusCode(), is(200));
+                assertThat(EntityUtils.toString(response.getEntity()), containsString(version));
+                response = client.performRequest(new Request("GET", "/_cluster/health"));
+                final String health = EntityUtils.toString(response.getEntity());
+                assertThat(health, containsString("\"number_of_nodes\":3"));
+                assertThat(health, containsString("\"status\":\"green\""));
+            }
+        }
+    }
+
+    @DisplayName("Scale OpenSearchCluster out and in")
+    @Test
+    public void scale() throws Exception {
+        try (OpenSearchCluster cluster = new OpenSearchCluster(OpenSearchDockerImage.ofVersion("2.19.1"), 3)) {
+            cluster.start();
+
+            final OpenSearchHttpClient client = cluster.getHttpClient();
+            client.put("/books", "{\"settings\": {\"number_of_shards\": 6, \"number_of_replicas\": 1}}")
+                    .expectSuccess();
+            client.post("/books/_doc?refresh=true", "{\"title\": \"The Hobbit\"}").expectSuccess();
+
+            final OpenSearchRebalanceResult added = cluster.addNode("data", "ingest");
+            assertThat(cluster.getNodes().size(), is(4));
+            assertThat(added.getRelocatedShards(), greaterThan(0));
+
+            final OpenSearchRebalanceResult removed = cluster.removeNode(added.getNode());
+            assertThat(cluster.getNodes().size(), is(3));
+            assertThat(removed.getRelocatedShards(), greaterThan(0));
+            assertThat(
+                    client.get("/_cluster/health").expectSuccess().getBody(),
+                    containsString("\"number_of_nodes\":3"));
+        }
+    }
+
+    private static Stream<Arguments> clusters() {
+        return Stream.of(
+                Arguments.of("2.19.1", OpenSearchDockerImage.ofVersion("2.19.1")),
+                Arguments.of("3.1.0", OpenSearchDockerImage.ofVersion("3.1.0")));
+    }
+
+    private RestClient getClient(OpenSearchCluster cluster)
+            throws KeyManagementException, NoSuchAlgorithmException, KeyStoreException, URISyntaxException {
+        final HttpHost host = HttpHost.create(cluster.getHttpHostAddress());
+
+        final CredentialsProvider credentialsProvider =
+                getCredentialsProvider(cluster, host).orElse(null);
+
+        final SSLContext sslcontext = SSLContextBuilder.create()
+                .loadTrustMaterial(null, new TrustAllStrategy())
+                .build();
+
+        return RestClient.builder(host)
+                .setHttpClientConfigCallback(httpClientBuilder -> {
+                    final TlsStrategy tlsStrategy = ClientTlsStrategyBuilder.create()
+                            .setSslContext(sslcontext)
+                            .build();
+                    final PoolingAsyncClientConnectionManager connectionManager =
+                            PoolingAsyncClientConnectionManagerBuilder.create()
+                                    .setTlsStrategy(tlsStrategy)
+                                    .build();
+                    return httpClientBuilder
+                            .setConnectionManager(connectionManager)
+                            .setDefaultCredentialsProvider(credentialsProvider);
+                })
+                .build();
+    }
+
+    private Optional<CredentialsProvider> getCredentialsProvider(OpenSearchCluster cluster, HttpHost host) {
+        if (!cluster.isSecurityEnabled()) {
+            return Optional.empty();
+        }
+
+        final BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+        credentialsProvider.setCredentials(
+                new AuthScope(host),
+                new UsernamePasswordCredentials(
+                        cluster.getUsername(), cluster.getPassword().toCharArray()));
+
+        return Optional.of(credentialsProvider);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import static org.hamcrest.CoreMatchers.anyOf;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.URISyntaxException;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.auth.AuthScope;
+import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.RestClient;
+
+class OpenSearchContainerPoolTest {
+    @DisplayName("Lease shared OpenSearchContainer from the pool in parallel")
+    @Test
+    public void parallelLeases() throws Exception {
+        final OpenSearchContainerPool<OpenSearchContainer<?>> pool = OpenSearchContainerPool.containers(
+                "pool-test", () -> new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1")));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<OpenSearchContainer<?>>> leases = new ArrayList<>();
+            for (int i = 0; i < 4; ++i) {
+                leases.add(executor.submit(() -> {
+                    try (OpenSearchLease<OpenSearchContainer<?>> lease = pool.lease();
+                            RestClient client = getClient(lease.getTarget())) {
+                        final Request index = new Request("POST", "/" + lease.prefixed("books") + "/_doc?refresh=true");
+                        index.setJsonEntity("{\"title\": \"The Lord of the Rings\"}");
+                        client.performRequest(index);
+
+                        // Only the documents of this lease are visible under its prefix
+                        final Response response =
+                                client.performRequest(new Request("GET", "/" + lease.getPrefix() + "*/_count"));
+                        assertThat(EntityUtils.toString(response.getEntity()), containsString("\"count\":1"));
+
+                        lease.reset();
+                        final Response indices = client.performRequest(
+                                new Request("GET", "/_cat/indices/" + lease.getPrefix() + "*?h=index"));
+                        assertThat(EntityUtils.toString(indices.getEntity()).trim(), is(""));
+
+                        return lease.getTarget();
+                    }
+                }));
+            }
+
+            final OpenSearchContainer<?> container = leases.get(0).get();
+            for (final Future<OpenSearchContainer<?>> lease : leases) {
+                assertThat(lease.get(), sameInstance(container));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(pool.getActiveLeases(), is(0));
+        try (OpenSearchLease<OpenSearchContainer<?>> first = pool.lease();
+                OpenSearchLease<OpenSearchContainer<?>> second = pool.lease()) {
+            assertThat(first.getPrefix(), not(second.getPrefix()));
+            assertThat(pool.getActiveLeases(), is(2));
+        }
+    }
+
+    @DisplayName("Spread the parallel leases over the members of the pool")
+    @Test
+    public void parallelLeasesSpread() throws Exception {
+        final OpenSearchContainerPool<OpenSearchContainer<?>> pool = OpenSearchContainerPool.containers(
+                "pool-size-test", () -> new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1")), 2);
+
+        final OpenSearchContainer<?> first;
+        final OpenSearchContainer<?> second;
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<OpenSearchLease<OpenSearchContainer<?>>> firstLease = executor.submit(pool::lease);
+            final Future<OpenSearchLease<OpenSearchContainer<?>>> secondLease = executor.submit(pool::lease);
+            try (OpenSearchLease<OpenSearchContainer<?>> one = firstLease.get();
+                    OpenSearchLease<OpenSearchContainer<?>> two = secondLease.get()) {
+                first = one.getTarget();
+                second = two.getTarget();
+                assertThat(first, not(sameInstance(second)));
+                assertThat(pool.getStarted(), is(2));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // The started members are reused, no more containers are started
+        try (OpenSearchLease<OpenSearchContainer<?>> lease = pool.lease()) {
+            assertThat(lease.getTarget(), anyOf(sameInstance(first), sameInstance(second)));
+            assertThat(pool.getStarted(), is(2));
+        }
+    }
+
+    @DisplayName("Share the capacity of the start scheduler by the pools of different configurations")
+    @Test
+    public void sharedCapacity() throws Exception {
+        // Only two tiny CI nodes (1g memory limit) fit into the memory, so every pool gets one of them
+        final OpenSearchStartScheduler scheduler = OpenSearchStartScheduler.of(4, "2g");
+        final OpenSearchContainerPool<OpenSearchContainer<?>> first = OpenSearchContainerPool.containers(
+                "pool-capacity-test-2.19.1",
+                () -> new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1")),
+                0,
+                scheduler,
+                OpenSearchResourceProfile.tinyCiNode());
+        final OpenSearchContainerPool<OpenSearchContainer<?>> second = OpenSearchContainerPool.containers(
+                "pool-capacity-test-3.1.0",
+                () -> new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("3.1.0")),
+                0,
+                scheduler,
+                OpenSearchResourceProfile.tinyCiNode());
+        assertThat(first.getSize(), is(1));
+        assertThat(second.getSize(), is(1));
+
+        try (OpenSearchLease<OpenSearchContainer<?>> one = first.lease();
+                OpenSearchLease<OpenSearchContainer<?>> two = first.lease();
+                OpenSearchLease<OpenSearchContainer<?>> three = second.lease()) {
+            assertThat(one.getTarget(), sameInstance(two.getTarget()));
+            assertThat(first.getStarted(), is(1));
+            assertThat(second.getStarted(), is(1));
+            assertThat(scheduler.getReservedMemory(), is(2L * 1024L * 1024L * 1024L));
+        }
+
+        // The pool sized explicitly starts one more container only if the scheduler admits it right away
+        final OpenSearchContainerPool<OpenSearchContainer<?>> pool = OpenSearchContainerPool.containers(
+                "pool-capacity-test-fallback",
+                () -> new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1")),
+                2,
+                OpenSearchStartScheduler.of(4, "1536m"),
+                OpenSearchResourceProfile.tinyCiNode());
+        try (OpenSearchLease<OpenSearchContainer<?>> one = pool.lease();
+                OpenSearchLease<OpenSearchContainer<?>> two = pool.lease()) {
+            assertThat(one.getTarget(), sameInstance(two.getTarget()));
+            assertThat(pool.getStarted(), is(1));
+        }
+    }
+
+    private RestClient getClient(OpenSearchContainer<?> container)
+            throws KeyManagementException, NoSuchAlgorithmException, KeyStoreException, URISyntaxException {
+        final HttpHost host = HttpHost.create(container.getHttpHostAddress());
+
+        final BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+        if (container.isSecurityEnabled()) {
+            credentialsProvider.setCredentials(
+                    new AuthScope(host),
+                    new UsernamePasswordCredentials(
+                            container.getUsername(), container.getPassword().toCharArray()));
+        }
+
+        final SSLContext sslcontext = SSLContextBuilder.create()
+                .loadTrustMaterial(null, new TrustAllStrategy())
+                .build();
+
+        return RestClient.builder(host)
+                .setHttpClientConfigCallback(httpClientBuilder -> {
+                    final TlsStrategy tlsStrategy = ClientTlsStrategyBuilder.create()
+                            .setSslContext(sslcontext)
+                            .build();
+                    final PoolingAsyncClientConnectionManager connectionManager =
+                            PoolingAsyncClientConnectionManagerBuilder.create()
+                                    .setTlsStrategy(tlsStrategy)
+                                    .build();
+                    return httpClientBuilder
+                            .setConnectionManager(connectionManager)
+                            .setDefaultCredentialsProvider(credentialsProvider);
+                })
+                .build();
+    }
+}
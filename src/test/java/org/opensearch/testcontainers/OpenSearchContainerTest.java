@@ -7,16 +7,33 @@ package org.opensearch.testcontainers;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.github.dockerjava.api.DockerClient;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 import javax.net.ssl.SSLContext;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.CredentialsProvider;
@@ -33,13 +50,21 @@ import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
 import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.client.Request;
 import org.opensearch.client.Response;
 import org.opensearch.client.ResponseException;
 import org.opensearch.client.RestClient;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.Base58;
 import org.testcontainers.utility.DockerImageName;
 
 class OpenSearchContainerTest {
@@ -96,6 +121,515 @@ class OpenSearchContainerTest {
         }
     }
 
+    @DisplayName("Record OpenSearchContainer startup timings")
+    @Test
+    public void startupTimings() throws Exception {
+        final Map<OpenSearchStartupPhase, Duration> phases = new ConcurrentHashMap<>();
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withSecurityEnabled()
+                .withStartupListener(phases::put)) {
+            container.start();
+
+            final OpenSearchStartupTimings timings = container.getStartupTimings();
+            assertThat(timings.getPhases(), is(phases));
+            assertThat(timings.getDuration(OpenSearchStartupPhase.CONTAINER_START).isPresent(), is(true));
+            assertThat(timings.getDuration(OpenSearchStartupPhase.READINESS).isPresent(), is(true));
+        }
+    }
+
+    @DisplayName("Create OpenSearchContainer with in-memory data path")
+    @Test
+    public void inMemoryDataPath() throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withInMemoryDataPath("512m")) {
+            container.start();
+
+            final ExecResult result = container.execInContainer("df", "--output=fstype", "/usr/share/opensearch/data");
+            assertThat(result.getStdout(), containsString("tmpfs"));
+
+            try (RestClient client = getClient(container, TlsConfig.custom())) {
+                final Response response = client.performRequest(new Request("PUT", "/in-memory"));
+                assertThat(response.getStatusLine().getStatusCode(), is(200));
+            }
+        }
+    }
+
+    @DisplayName("Create OpenSearchContainer with tiny CI node resource profile")
+    @Test
+    public void tinyCiNodeResourceProfile() throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withResourceProfile(OpenSearchResourceProfile.tinyCiNode())) {
+            container.start();
+
+            assertThat(container.getContainerInfo().getHostConfig().getMemory(), is(1024L * 1024L * 1024L));
+            try (RestClient client = getClient(container, TlsConfig.custom())) {
+                final Response response = client.performRequest(new Request("GET", "/_nodes/_local/jvm"));
+                assertThat(
+                        EntityUtils.toString(response.getEntity()),
+                        containsString("\"heap_max_in_bytes\":268435456"));
+            }
+        }
+    }
+
+    @DisplayName("Replace OpenSearchContainer resource profile between the restarts")
+    @Test
+    public void replaceResourceProfile() throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withEnv("OPENSEARCH_JAVA_OPTS", "-XX:+UseCompressedOops")
+                .withResourceProfile(OpenSearchResourceProfile.tinyCiNode())) {
+            container.start();
+            assertThat(container.getEnvMap().get("OPENSEARCH_JAVA_OPTS"), containsString("-Xmx256m"));
+            container.stop();
+
+            container.withResourceProfile(OpenSearchResourceProfile.none());
+            container.start();
+            assertThat(container.getEnvMap().get("OPENSEARCH_JAVA_OPTS"), is("-XX:+UseCompressedOops"));
+            try (RestClient client = getClient(container, TlsConfig.custom())) {
+                final Response response = client.performRequest(new Request("GET", "/_nodes/_local/jvm"));
+                assertThat(
+                        EntityUtils.toString(response.getEntity()),
+                        not(containsString("\"heap_max_in_bytes\":268435456")));
+            }
+        }
+    }
+
+    @DisplayName("Start OpenSearchContainers in parallel with the start scheduler")
+    @Test
+    public void startScheduler() throws Exception {
+        // Only one tiny CI node (1 CPU) could boot at a time
+        final OpenSearchStartScheduler scheduler = OpenSearchStartScheduler.of(1, "8g");
+        try (OpenSearchContainer<?> first = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                        .withResourceProfile(OpenSearchResourceProfile.tinyCiNode())
+                        .withStartScheduler(scheduler);
+                OpenSearchContainer<?> second = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                        .withResourceProfile(OpenSearchResourceProfile.tinyCiNode())
+                        .withStartScheduler(scheduler)) {
+            Startables.deepStart(first, second).join();
+            assertThat(scheduler.getReservedMemory(), is(2L * 1024L * 1024L * 1024L));
+
+            final Duration queueWait = first.getStartupTimings()
+                    .getQueueWait()
+                    .plus(second.getStartupTimings().getQueueWait());
+            assertThat(queueWait, greaterThan(Duration.ZERO));
+
+            first.stop();
+            assertThat(scheduler.getReservedMemory(), is(1024L * 1024L * 1024L));
+        }
+    }
+
+    @DisplayName("Start OpenSearchContainers with the start scheduler constrained by memory")
+    @Test
+    public void startSchedulerMemory() throws Exception {
+        // Plenty of CPUs but only one tiny CI node (1g memory limit) fits into the memory
+        final OpenSearchStartScheduler scheduler = OpenSearchStartScheduler.of(8, "1536m");
+        try (OpenSearchContainer<?> first = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                        .withResourceProfile(OpenSearchResourceProfile.tinyCiNode())
+                        .withStartScheduler(scheduler);
+                OpenSearchContainer<?> second = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                        .withResourceProfile(OpenSearchResourceProfile.tinyCiNode())
+                        .withStartScheduler(scheduler)) {
+            first.start();
+
+            // The first container has booted already, the second one still waits for its memory to be released
+            final CompletableFuture<Void> started = CompletableFuture.runAsync(second::start);
+            final long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+            while (scheduler.getQueued() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            assertThat(scheduler.getQueued(), is(1));
+            assertThat(scheduler.getReservedMemory(), is(1024L * 1024L * 1024L));
+
+            first.stop();
+            started.join();
+            assertThat(second.isRunning(), is(true));
+            assertThat(second.getStartupTimings().getQueueWait(), greaterThan(Duration.ZERO));
+        }
+
+        // The start which could never fit into the memory fails immediately instead of waiting forever
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withResourceProfile(OpenSearchResourceProfile.tinyCiNode())
+                .withStartScheduler(OpenSearchStartScheduler.of(8, "512m"))) {
+            assertThrows(ContainerLaunchException.class, container::start);
+        }
+    }
+
+    @DisplayName("Prefetch OpenSearch images concurrently into the local image cache")
+    @Test
+    public void prefetchImages(@TempDir final Path cache) throws Exception {
+        final List<OpenSearchPrefetchedImage> images = OpenSearchDockerImage.prefetch("2.19.1", "3.1.0")
+                .withCacheDirectory(cache)
+                .resolve();
+        assertThat(images.size(), is(2));
+        assertThat(images.get(0).getDockerImageName(), is(OpenSearchDockerImage.ofVersion("2.19.1")));
+        assertThat(Files.isRegularFile(cache.resolve("opensearchproject_opensearch_2.19.1.tar")), is(true));
+        assertThat(Files.isRegularFile(cache.resolve("opensearchproject_opensearch_3.1.0.tar")), is(true));
+
+        // The images are present locally by now
+        for (final OpenSearchPrefetchedImage image : OpenSearchDockerImage.prefetch("2.19.1", "3.1.0")
+                .withCacheDirectory(cache)
+                .resolve()) {
+            assertThat(image.getSource(), is(OpenSearchPrefetchedImage.Source.LOCAL));
+            assertThat(image.getBytes(), is(0L));
+        }
+    }
+
+    @DisplayName("Prefetch the image missing locally from the local image cache")
+    @Test
+    public void prefetchImagesFromCache(@TempDir final Path cache) throws Exception {
+        // The small image tagged under the unique name, so it could be removed safely
+        final DockerClient dockerClient = DockerClientFactory.instance().client();
+        final DockerImageName alpine = DockerImageName.parse("alpine:3.20");
+        OpenSearchDockerImage.prefetch(alpine).resolve();
+
+        final DockerImageName image = DockerImageName.parse(
+                "opensearch-testcontainers/prefetch-" + Base58.randomString(8).toLowerCase(Locale.ROOT) + ":1.0");
+        dockerClient
+                .tagImageCmd(alpine.asCanonicalNameString(), image.getUnversionedPart(), image.getVersionPart())
+                .exec();
+        try {
+            final OpenSearchPrefetchedImage local =
+                    OpenSearchDockerImage.prefetch(image).withCacheDirectory(cache).resolve().get(0);
+            assertThat(local.getSource(), is(OpenSearchPrefetchedImage.Source.LOCAL));
+
+            final Path tarball = cache.resolve(image.getRepository().replace('/', '_') + "_1.0.tar");
+            assertThat(Files.isRegularFile(tarball), is(true));
+
+            // The image is gone (like on the air-gapped host) but the image cache has it
+            dockerClient.removeImageCmd(image.asCanonicalNameString()).exec();
+            final OpenSearchPrefetchedImage cached =
+                    OpenSearchDockerImage.prefetch(image).withCacheDirectory(cache).resolve().get(0);
+            assertThat(cached.getSource(), is(OpenSearchPrefetchedImage.Source.CACHE));
+            assertThat(cached.getBytes(), is(Files.size(tarball)));
+            assertThat(OpenSearchDerivedImages.exists(image.asCanonicalNameString()), is(true));
+        } finally {
+            if (OpenSearchDerivedImages.exists(image.asCanonicalNameString())) {
+                dockerClient.removeImageCmd(image.asCanonicalNameString()).exec();
+            }
+        }
+    }
+
+    @DisplayName("Create OpenSearchContainer with minimal plugins")
+    @Test
+    public void minimalPlugins() throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withMinimalPlugins()
+                .withSecurityEnabled()) {
+            container.start();
+
+            try (RestClient client = getClient(container, TlsConfig.custom())) {
+                final Response response = client.performRequest(new Request("GET", "/_cat/plugins?h=component"));
+                assertThat(EntityUtils.toString(response.getEntity()).trim(), is("opensearch-security"));
+            }
+        }
+    }
+
+    @DisplayName("Create OpenSearchContainer from the warm image")
+    @Test
+    public void warmImage() throws Exception {
+        // The unique fixture names make sure the warm image is baked from scratch
+        final String name = "warm-" + Base58.randomString(8).toLowerCase(Locale.ROOT);
+        final OpenSearchWarmImage warm = OpenSearchDockerImage.warm(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withIndexTemplate(name, "{\"index_patterns\":[\"" + name + "-*\"]}")
+                .withIngestPipeline(name, "{\"processors\":[{\"set\":{\"field\":\"warm\",\"value\":true}}]}");
+
+        final DockerImageName image = warm.resolve();
+        final String imageId = DockerClientFactory.instance()
+                .client()
+                .inspectImageCmd(image.asCanonicalNameString())
+                .exec()
+                .getId();
+        try {
+            // The image is not rebuilt once baked
+            assertThat(warm.resolve(), is(image));
+            assertThat(
+                    DockerClientFactory.instance()
+                            .client()
+                            .inspectImageCmd(image.asCanonicalNameString())
+                            .exec()
+                            .getId(),
+                    is(imageId));
+
+            try (OpenSearchContainer<?> container = new OpenSearchContainer<>(image)) {
+                container.start();
+
+                final OpenSearchHttpClient client = container.getHttpClient();
+                assertThat(client.get("/_index_template/" + name).getStatusCode(), is(200));
+                assertThat(client.get("/_ingest/pipeline/" + name).getStatusCode(), is(200));
+            }
+
+            // The in-memory data path would hide the fixtures baked into the data path
+            try (OpenSearchContainer<?> container = new OpenSearchContainer<>(image).withInMemoryDataPath("512m")) {
+                assertThrows(ContainerLaunchException.class, container::start);
+            }
+        } finally {
+            DockerClientFactory.instance()
+                    .client()
+                    .removeImageCmd(imageId)
+                    .withForce(true)
+                    .exec();
+        }
+    }
+
+    @DisplayName("Create OpenSearchContainer with snapshot fixtures")
+    @Test
+    public void snapshotFixtures(@TempDir final Path repository) throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withSnapshotRepository(repository)) {
+            container.start();
+            assertThat(container.hasFixture("books"), is(false));
+
+            try (RestClient client = getClient(container, TlsConfig.custom())) {
+                final Request index = new Request("POST", "/books/_doc?refresh=true");
+                index.setJsonEntity("{\"title\": \"The Lord of the Rings\"}");
+                client.performRequest(index);
+
+                container.createFixtureSnapshot("books", "books");
+                assertThat(container.hasFixture("books"), is(true));
+
+                client.performRequest(new Request("DELETE", "/books"));
+                container.restoreFixture("books");
+
+                final Response response = client.performRequest(new Request("GET", "/books/_count"));
+                assertThat(EntityUtils.toString(response.getEntity()), containsString("\"count\":1"));
+            }
+        }
+    }
+
+    @DisplayName("Create OpenSearchContainer with persistent data volume")
+    @Test
+    public void persistentDataVolume() throws Exception {
+        final String fixtureHash = Base58.randomString(8);
+        String volume = null;
+
+        try {
+            try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                    .withPersistentDataVolume(fixtureHash)) {
+                container.start();
+                assertThat(container.isDataVolumeReused(), is(false));
+                volume = container.getContainerInfo().getMounts().stream()
+                        .filter(mount -> "/usr/share/opensearch/data".equals(mount.getDestination().getPath()))
+                        .findFirst()
+                        .orElseThrow()
+                        .getName();
+
+                try (RestClient client = getClient(container, TlsConfig.custom())) {
+                    final Request index = new Request("POST", "/books/_doc?refresh=true");
+                    index.setJsonEntity("{\"title\": \"The Lord of the Rings\"}");
+                    client.performRequest(index);
+                }
+            }
+
+            try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                    .withPersistentDataVolume(fixtureHash)) {
+                container.start();
+                assertThat(container.isDataVolumeReused(), is(true));
+
+                try (RestClient client = getClient(container, TlsConfig.custom())) {
+                    final Response response = client.performRequest(new Request("GET", "/books/_count"));
+                    assertThat(EntityUtils.toString(response.getEntity()), containsString("\"count\":1"));
+                }
+            }
+        } finally {
+            if (volume != null) {
+                DockerClientFactory.instance().client().removeVolumeCmd(volume).exec();
+            }
+        }
+    }
+
+    @DisplayName("Seed OpenSearchContainer with bulk loader")
+    @Test
+    public void bulkLoader(@TempDir final Path directory) throws Exception {
+        final Path documents = directory.resolve("books.ndjson.gz");
+        try (Writer writer = new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(documents)), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 10_000; ++i) {
+                writer.write("{\"title\": \"Book " + i + "\"}\n");
+            }
+        }
+
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))) {
+            container.start();
+
+            final OpenSearchBulkLoadResult result = container.bulkLoader()
+                    .fromFile(documents)
+                    .intoIndex("books")
+                    .withBatchSize("64k")
+                    .withConcurrency(4)
+                    .withLoadSettings("books")
+                    .load();
+            assertThat(result.getDocuments(), is(10_000L));
+            assertThat(result.getFailedDocuments(), is(0L));
+
+            try (RestClient client = getClient(container, TlsConfig.custom())) {
+                Response response = client.performRequest(new Request("GET", "/books/_count"));
+                assertThat(EntityUtils.toString(response.getEntity()), containsString("\"count\":10000"));
+                response = client.performRequest(new Request("GET", "/books/_settings/index.refresh_interval"));
+                assertThat(EntityUtils.toString(response.getEntity()), not(containsString("-1")));
+            }
+        }
+    }
+
+    @DisplayName("Run the workload against OpenSearchContainer")
+    @Test
+    public void workload() throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))) {
+            container.start();
+
+            final OpenSearchWorkloadResult result = container.workload()
+                    .withIndexOperation("books", 1, () -> "{\"title\": \"The Lord of the Rings\"}")
+                    .withSearchOperation("books", 4, "{\"query\": {\"match\": {\"title\": \"rings\"}}}")
+                    .withTargetRate(50)
+                    .withConcurrency(4)
+                    .withWarmup(Duration.ofSeconds(1))
+                    .withDuration(Duration.ofSeconds(5))
+                    .run();
+
+            assertThat(result.getErrors(), is(0L));
+            assertThat(result.getOperations(), greaterThan(200L));
+            assertThat(result.getLatency("index-books").getCount(), greaterThan(0L));
+            assertThat(result.getLatency("search-books").getCount(), greaterThan(0L));
+            // The latency (from the scheduled start) is never less than the service time
+            assertThat(
+                    result.getLatency().getP99().compareTo(result.getServiceTime().getP99()),
+                    greaterThanOrEqualTo(0));
+        }
+    }
+
+    @DisplayName("Capture node statistics of OpenSearchContainer around the test block")
+    @Test
+    public void captureStats() throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))) {
+            container.start();
+
+            final OpenSearchHttpClient client = container.getHttpClient();
+            final OpenSearchStats before = container.captureStats();
+            for (int i = 0; i < 100; ++i) {
+                client.post("/books/_doc", "{\"title\": \"Book " + i + "\"}").expectSuccess();
+            }
+            client.post("/books/_refresh", null).expectSuccess();
+
+            // The aggregations with "size: 0" are cached by the request cache
+            final String query = "{\"size\": 0, \"aggs\": {\"indices\": {\"terms\": {\"field\": \"_index\"}}}}";
+            for (int i = 0; i < 10; ++i) {
+                client.post("/books/_search", query).expectSuccess();
+            }
+
+            final OpenSearchStatsDelta delta = container.captureStats().since(before);
+            assertThat(delta.getIndexed(), is(100L));
+            assertThat(delta.getQueries(), greaterThanOrEqualTo(10L));
+            assertThat(delta.getRequestCacheHitRatio(), greaterThan(0.8));
+            assertThat(delta.getRejections(), is(0L));
+        }
+    }
+
+    @DisplayName("Capture slow log events of OpenSearchContainer")
+    @Test
+    public void slowLog() throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withSlowLog(Duration.ZERO, Duration.ZERO)) {
+            container.start();
+
+            final OpenSearchHttpClient client = container.getHttpClient();
+            client.post("/books/_doc?refresh=true", "{\"title\": \"The Lord of the Rings\"}").expectSuccess();
+            client.post("/books/_search", "{\"query\": {\"match\": {\"title\": \"rings\"}}}").expectSuccess();
+
+            // The container output is consumed asynchronously
+            final long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+            while (container.getSlowLogEvents().stream().map(OpenSearchSlowLogEvent::getType).distinct().count() < 3
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+
+            final List<OpenSearchSlowLogEvent> events = container.getSlowLogEvents();
+            final OpenSearchSlowLogEvent query = events.stream()
+                    .filter(event -> event.getType() == OpenSearchSlowLogEvent.Type.QUERY)
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(query.getIndex(), is("books"));
+            assertThat(query.getShard(), is(0));
+            assertThat(query.getSource(), containsString("rings"));
+            assertThat(
+                    events.stream().anyMatch(event -> event.getType() == OpenSearchSlowLogEvent.Type.INDEX),
+                    is(true));
+
+            container.clearSlowLogEvents();
+            assertThat(container.getSlowLogEvents().isEmpty(), is(true));
+        }
+    }
+
+    @DisplayName("Simulate network latency and connection resets with the proxy of OpenSearchContainer")
+    @Test
+    public void proxy() throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))) {
+            container.start();
+
+            final OpenSearchProxy proxy = container.getProxy();
+            assertThat(container.getProxy(), sameInstance(proxy));
+
+            final OpenSearchHttpClient client = new OpenSearchHttpClient(proxy.getHttpHostAddress(), false, null, null);
+            client.get("/").expectSuccess();
+
+            // The latency is added in each direction
+            proxy.setConditions(OpenSearchNetworkConditions.none().withLatency(Duration.ofMillis(100)));
+            final long started = System.nanoTime();
+            client.get("/").expectSuccess();
+            assertThat(Duration.ofNanos(System.nanoTime() - started), greaterThanOrEqualTo(Duration.ofMillis(200)));
+
+            proxy.setConditions(OpenSearchNetworkConditions.none().withResetProbability(1));
+            assertThrows(UncheckedIOException.class, () -> client.get("/"));
+
+            proxy.setConditions(OpenSearchNetworkConditions.none());
+            client.get("/").expectSuccess();
+        }
+    }
+
+    @DisplayName("Use preconfigured HTTP client of OpenSearchContainer")
+    @Test
+    public void httpClient() throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withSecurityEnabled()) {
+            container.start();
+
+            final OpenSearchHttpClient client = container.getHttpClient();
+            assertThat(container.getHttpClient(), sameInstance(client));
+
+            client.put("/books", "{\"settings\": {\"number_of_shards\": 1}}").expectSuccess();
+            client.post("/books/_doc?refresh=true", "{\"title\": \"The Lord of the Rings\"}")
+                    .expectSuccess();
+
+            final Map<String, Object> count = client.get("/books/_count").expectSuccess().getJsonObject();
+            assertThat(count.get("count"), is(1L));
+
+            final OpenSearchResponseException ex = assertThrows(
+                    OpenSearchResponseException.class,
+                    () -> client.get("/unknown").expectSuccess());
+            assertThat(ex.getStatusCode(), is(404));
+        }
+    }
+
+    @DisplayName("Create OpenSearchContainer in fast secure mode")
+    @ParameterizedTest(name = "Running OpenSearch version={0} (fast secure mode)")
+    @ValueSource(strings = {"1.3.4", "2.19.1", "3.1.0"})
+    public void fastSecurity(final String version) throws Exception {
+        try (OpenSearchContainer<?> container = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion(version))
+                .withFastSecurityEnabled()) {
+            container.start();
+            assertThat(container.isSecurityEnabled(), is(true));
+
+            // The HTTP client trusts the pre-generated certificates only
+            final Map<String, Object> account = container.getHttpClient()
+                    .get("/_plugins/_security/api/account")
+                    .expectSuccess()
+                    .getJsonObject();
+            assertThat(account.get("user_name"), is("admin"));
+
+            try (RestClient client = getClient(container, TlsConfig.custom())) {
+                final Response response = client.performRequest(new Request("GET", "/"));
+                assertThat(EntityUtils.toString(response.getEntity()), containsString(version));
+            }
+        }
+    }
+
     private static Stream<Arguments> containers() {
         return Stream.of(
                 Arguments.of(
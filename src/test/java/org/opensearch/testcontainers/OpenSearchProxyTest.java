@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OpenSearchProxyTest {
+    @DisplayName("Close the connection the backend of which refuses it and keep the proxy running")
+    @Test
+    public void backendRefused() throws Exception {
+        final InetSocketAddress target;
+        try (ServerSocket closed = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            target = new InetSocketAddress(InetAddress.getLoopbackAddress(), closed.getLocalPort());
+        }
+
+        try (OpenSearchProxy proxy = new OpenSearchProxy("http", target)) {
+            // Every connection is closed, the proxy keeps accepting the new ones
+            for (int i = 0; i < 3; ++i) {
+                try (Socket socket = connect(proxy)) {
+                    assertThat(socket.getInputStream().read(), is(-1));
+                }
+            }
+
+            assertThat(proxy.getConnectionsAccepted(), is(3L));
+        }
+    }
+
+    @DisplayName("Proxy the data to the backend connected asynchronously")
+    @Test
+    public void proxy() throws Exception {
+        try (ServerSocket backend = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final CompletableFuture<Void> echo = CompletableFuture.runAsync(() -> {
+                try (Socket socket = backend.accept()) {
+                    socket.getOutputStream().write(socket.getInputStream().readNBytes(4));
+                } catch (final Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+
+            final InetSocketAddress target =
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), backend.getLocalPort());
+            try (OpenSearchProxy proxy = new OpenSearchProxy("http", target);
+                    Socket socket = connect(proxy)) {
+                socket.getOutputStream().write("ping".getBytes(StandardCharsets.US_ASCII));
+                final InputStream in = socket.getInputStream();
+                assertThat(new String(in.readNBytes(4), StandardCharsets.US_ASCII), is("ping"));
+                echo.join();
+            }
+        }
+    }
+
+    private static Socket connect(final OpenSearchProxy proxy) throws Exception {
+        final URI address = URI.create(proxy.getHttpHostAddress());
+        return new Socket(address.getHost(), address.getPort());
+    }
+}
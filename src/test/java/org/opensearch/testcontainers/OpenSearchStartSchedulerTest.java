@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.ContainerLaunchException;
+
+class OpenSearchStartSchedulerTest {
+    @DisplayName("Fail the start not admitted within the startup timeout")
+    @Test
+    public void admissionTimeout() {
+        // Only one tiny CI node (1g memory limit) fits into the memory, the first one is never stopped
+        final OpenSearchStartScheduler scheduler = OpenSearchStartScheduler.of(8, "1536m");
+        final OpenSearchContainer<?> first = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withResourceProfile(OpenSearchResourceProfile.tinyCiNode());
+        final OpenSearchContainer<?> second = new OpenSearchContainer<>(OpenSearchDockerImage.ofVersion("2.19.1"))
+                .withResourceProfile(OpenSearchResourceProfile.tinyCiNode());
+
+        scheduler.admit(first, Duration.ofSeconds(1));
+        scheduler.booted(first);
+
+        final ContainerLaunchException ex = assertThrows(
+                ContainerLaunchException.class, () -> scheduler.admit(second, Duration.ofMillis(200)));
+        assertThat(ex.getMessage(), containsString("1073741824 of 1610612736 bytes are reserved"));
+        assertThat(ex.getMessage(), containsString("1 start(s) are queued"));
+        assertThat(scheduler.getQueued(), is(0));
+
+        // Once the memory is released, the start is admitted
+        scheduler.release(first);
+        scheduler.admit(second, Duration.ofMillis(200));
+        assertThat(scheduler.getReservedMemory(), is(1024L * 1024L * 1024L));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@OpenSearchTest(value = "2.19.1", poolSize = 2)
+class OpenSearchTestExtensionTest {
+    private final OpenSearchLease<OpenSearchContainer<?>> lease;
+
+    OpenSearchTestExtensionTest(final OpenSearchLease<OpenSearchContainer<?>> lease) {
+        this.lease = lease;
+    }
+
+    @DisplayName("Inject the lease of the pooled OpenSearchContainer and its HTTP client")
+    @Test
+    public void inject(final OpenSearchHttpClient client, final OpenSearchContainer<?> container) {
+        assertThat(client, sameInstance(lease.getHttpClient()));
+        assertThat(container, sameInstance(lease.getTarget()));
+        assertThat(container.isRunning(), is(true));
+
+        client.put("/" + lease.prefixed("books"), null).expectSuccess();
+        assertThat(
+                client.get("/_cat/indices/" + lease.getPrefix() + "*?h=index").getBody(),
+                containsString(lease.prefixed("books")));
+    }
+
+    @Nested
+    class NestedTest {
+        @DisplayName("Share the lease of the enclosing test class with the nested one")
+        @Test
+        public void inject(final OpenSearchLease<OpenSearchContainer<?>> nested) {
+            assertThat(nested, sameInstance(lease));
+        }
+    }
+}
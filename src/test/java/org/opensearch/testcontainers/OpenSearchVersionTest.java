@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.testcontainers;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.testcontainers.utility.DockerImageName;
+
+class OpenSearchVersionTest {
+    @DisplayName("Gate the behavior by OpenSearch version")
+    @ParameterizedTest(name = "OpenSearch version={0}")
+    @CsvSource({
+        "1.3.4, false, false",
+        "2.0.0, false, true",
+        "2.11.1, false, true",
+        "2.12.0, true, true",
+        "2.12.0-SNAPSHOT, true, true",
+        "2.19.1, true, true",
+        "3.0.0-beta1, true, true",
+        "3.1.0, true, true",
+        "2, true, true",
+        "latest, true, true"
+    })
+    public void versionGates(final String version, boolean initialAdminPassword, boolean clusterManager) {
+        final OpenSearchVersion parsed = OpenSearchVersion.parse(version);
+        assertThat(parsed.requiresInitialAdminPassword(), is(initialAdminPassword));
+        assertThat(parsed.usesClusterManagerTerminology(), is(clusterManager));
+        assertThat(parsed.toString(), is(version));
+    }
+
+    @DisplayName("Compare OpenSearch versions")
+    @Test
+    public void compare() {
+        assertThat(OpenSearchVersion.parse("2.9.0").compareTo(OpenSearchVersion.parse("2.10.0")), lessThan(0));
+        assertThat(OpenSearchVersion.parse("3.0.0-beta1").compareTo(OpenSearchVersion.parse("3.0.0")), lessThan(0));
+        assertThat(
+                OpenSearchVersion.parse("3.0.0-beta2").compareTo(OpenSearchVersion.parse("3.0.0-beta10")), lessThan(0));
+        assertThat(
+                OpenSearchVersion.parse("3.0.0-beta10").compareTo(OpenSearchVersion.parse("3.0.0-rc1")), lessThan(0));
+        assertThat(OpenSearchVersion.parse("latest").compareTo(OpenSearchVersion.parse("3.1.0")), greaterThan(0));
+        assertThat(OpenSearchVersion.parse("2.19.1"), is(OpenSearchVersion.parse("2.19.1")));
+    }
+
+    @DisplayName("Detect OpenSearch version of Docker image")
+    @Test
+    public void versionOfImage() {
+        assertThat(
+                OpenSearchDockerImage.versionOf(OpenSearchDockerImage.ofVersion("2.19.1")),
+                is(Optional.of(OpenSearchVersion.parse("2.19.1"))));
+        assertThat(
+                OpenSearchDockerImage.versionOf(DockerImageName.parse("opensearchproject/opensearch:custom")),
+                is(Optional.empty()));
+        assertThrows(IllegalArgumentException.class, () -> OpenSearchVersion.parse("custom"));
+    }
+}